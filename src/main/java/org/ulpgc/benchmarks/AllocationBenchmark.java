@@ -0,0 +1,145 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.blocked.BlockedMatrixMultiplication;
+import org.ulpgc.matrix.parallel.splitk.ReductionStrategy;
+import org.ulpgc.matrix.parallel.splitk.SplitKMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.ParallelVectorizedMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class AllocationBenchmark {
+    private static final double ALPHA = 1.0;
+    private static final double BETA = 0.5;
+
+    @State(Scope.Thread)
+    public static class AllocationState {
+        @Param({"128", "257", "512"})
+        public int matrixSize;
+
+        @Param({"0", "1"})
+        public int rows;
+
+        @Param({"0", "1"})
+        public int cols;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+        public double[][] result;
+        public BasicMatrixMultiplication basic;
+        public BlockedMatrixMultiplication blocked;
+        public VectorizedMatrixMultiplication vectorized;
+        public PackedVectorizedMatrixMultiplication packed;
+        public ParallelVectorizedMatrixMultiplication parallelVectorized;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            int[] dimensions = BenchmarkRunner.GlobalMatrixState.dimensions(matrixSize, MatrixShape.SQUARE, rows, cols, 0);
+            matrixA = MatrixGenerator.generateMatrix(dimensions[0], dimensions[2]);
+            matrixB = MatrixGenerator.generateMatrix(dimensions[2], dimensions[1]);
+            result = new double[dimensions[0]][dimensions[1]];
+            basic = new BasicMatrixMultiplication();
+            blocked = new BlockedMatrixMultiplication();
+            vectorized = new VectorizedMatrixMultiplication();
+            packed = new PackedVectorizedMatrixMultiplication();
+            parallelVectorized = new ParallelVectorizedMatrixMultiplication(1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SplitKState {
+        @Param({"STRIPED_LOCKS", "DOUBLE_ADDER", "CAS", "TREE"})
+        public ReductionStrategy strategy;
+
+        public SplitKMatrixMultiplication splitK;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            splitK = new SplitKMatrixMultiplication(2, strategy);
+        }
+    }
+
+    @Benchmark
+    public double[][] basicAllocating(AllocationState state) {
+        return state.basic.multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] basicInto(AllocationState state) {
+        state.basic.multiplyInto(state.matrixA, state.matrixB, state.result, ALPHA, BETA);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] blockedInto(AllocationState state) {
+        state.blocked.multiplyInto(state.matrixA, state.matrixB, state.result, ALPHA, BETA);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] vectorizedInto(AllocationState state) {
+        state.vectorized.multiplyInto(state.matrixA, state.matrixB, state.result, ALPHA, BETA);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] packedAllocating(AllocationState state) {
+        return state.packed.multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] packedInto(AllocationState state) {
+        state.packed.multiplyInto(state.matrixA, state.matrixB, state.result, ALPHA, BETA);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] parallelVectorizedInto(AllocationState state) {
+        state.parallelVectorized.multiplyInto(state.matrixA, state.matrixB, state.result, ALPHA, BETA);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] splitKInto(AllocationState state, SplitKState splitKState) {
+        splitKState.splitK.multiplyInto(state.matrixA, state.matrixB, state.result, ALPHA, BETA);
+        return state.result;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(AllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+
+        System.out.printf("%n%-36s %16s %12s %16s%n", "Benchmark", "M x N x K", "Time (ms)", "Alloc (B/op)");
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            int[] dimensions = BenchmarkRunner.GlobalMatrixState.dimensions(
+                    Integer.parseInt(result.getParams().getParam("matrixSize")), MatrixShape.SQUARE,
+                    Integer.parseInt(result.getParams().getParam("rows")),
+                    Integer.parseInt(result.getParams().getParam("cols")), 0);
+            String name = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            String strategy = result.getParams().getParam("strategy");
+            System.out.printf("%-36s %16s %12.3f %16.1f%n", strategy == null ? name : name + " " + strategy,
+                    dimensions[0] + "x" + dimensions[1] + "x" + dimensions[2], result.getPrimaryResult().getScore(),
+                    BenchmarkMetrics.secondaryScore(result, "gc.alloc.rate.norm"));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.batched.BatchedMatrixMultiplication;
+import org.ulpgc.matrix.batched.InterleavedBatch;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class BatchedBenchmark {
+
+    @State(Scope.Thread)
+    public static class BatchState {
+        @Param({"4", "8", "16", "32", "64"})
+        public int matrixSize;
+
+        @Param({"1", "10", "100", "1000", "10000"})
+        public int batchSize;
+
+        @Param({"1", "4"})
+        public int numThreads;
+
+        public double[][][] matricesA;
+        public double[][][] matricesB;
+        public double[] flatA;
+        public double[] flatB;
+        public double[] flatC;
+        public InterleavedBatch interleavedA;
+        public InterleavedBatch interleavedB;
+        public InterleavedBatch interleavedC;
+        public BatchedMatrixMultiplication multiplication;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            int elements = matrixSize * matrixSize;
+            matricesA = new double[batchSize][][];
+            matricesB = new double[batchSize][][];
+            flatA = new double[batchSize * elements];
+            flatB = new double[batchSize * elements];
+            flatC = new double[batchSize * elements];
+            for (int m = 0; m < batchSize; m++) {
+                matricesA[m] = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+                matricesB[m] = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+                for (int i = 0; i < matrixSize; i++) {
+                    System.arraycopy(matricesA[m][i], 0, flatA, m * elements + i * matrixSize, matrixSize);
+                    System.arraycopy(matricesB[m][i], 0, flatB, m * elements + i * matrixSize, matrixSize);
+                }
+            }
+            interleavedA = InterleavedBatch.fromArrays(matricesA);
+            interleavedB = InterleavedBatch.fromArrays(matricesB);
+            interleavedC = new InterleavedBatch(batchSize, matrixSize, matrixSize);
+            multiplication = new BatchedMatrixMultiplication(numThreads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            multiplication.close();
+        }
+    }
+
+    @Benchmark
+    public double[][][] perPair(BatchState state) {
+        return new BasicMatrixMultiplication().multiplyBatch(state.matricesA, state.matricesB);
+    }
+
+    @Benchmark
+    public double[][][] batchedArrays(BatchState state) {
+        return state.multiplication.multiplyBatch(state.matricesA, state.matricesB);
+    }
+
+    @Benchmark
+    public double[] batchedStrided(BatchState state) {
+        int elements = state.matrixSize * state.matrixSize;
+        state.multiplication.multiplyBatch(state.flatA, 0, elements, state.flatB, 0, elements,
+                state.flatC, 0, elements, state.batchSize, state.matrixSize, state.matrixSize, state.matrixSize);
+        return state.flatC;
+    }
+
+    @Benchmark
+    public InterleavedBatch batchedInterleaved(BatchState state) {
+        state.multiplication.multiply(state.interleavedA, state.interleavedB, state.interleavedC);
+        return state.interleavedC;
+    }
+}
@@ -1,22 +1,18 @@
 package org.ulpgc.benchmarks;
 
 import com.sun.management.OperatingSystemMXBean;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
-import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
-import org.ulpgc.matrix.parallel.executors.ParallelMatrixExecutors;
-import org.ulpgc.matrix.parallel.streams.ParallelMatrixStreams;
-import org.ulpgc.matrix.parallel.synchronization.*;
-import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
-import org.ulpgc.utils.MatrixGenerator;
+import org.ulpgc.matrix.adaptive.AdaptiveMatrixMultiplication;
+import org.ulpgc.matrix.blocked.TileSizeCalibrator;
 
 import java.io.*;
 import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
-import java.lang.management.MemoryPoolMXBean;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -25,10 +21,9 @@ import java.util.*;
 public class BenchmarkExecutor {
 
     private static Properties config;
+    private static String datasetDir;
     private static final OperatingSystemMXBean OS_BEAN =
             (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
-    private static final MemoryMXBean MEMORY_BEAN = ManagementFactory.getMemoryMXBean();
-    private static final List<MemoryPoolMXBean> MEMORY_POOLS = ManagementFactory.getMemoryPoolMXBeans();
 
     public static void main(String[] args) throws Exception {
         loadConfig();
@@ -36,20 +31,41 @@ public class BenchmarkExecutor {
         String outputPath = config.getProperty("output.path");
         String[] matrixSizes = config.getProperty("matrix.sizes").split(",");
         String[] numThreads = config.getProperty("num.threads").split(",");
+        String[] densities = config.getProperty("matrix.densities").split(",");
+        String[] shapes = config.getProperty("matrix.shapes", "SQUARE").split(",");
+        String[] rows = config.getProperty("matrix.rows", "0").split(",");
+        String[] cols = config.getProperty("matrix.cols", "0").split(",");
+        String[] common = config.getProperty("matrix.common", "0").split(",");
+        datasetDir = config.getProperty("dataset.dir", "");
+        Path samplesDir = Paths.get(config.getProperty("samples.dir", ResourceSamplingProfiler.DEFAULT_DIR));
+        String samplingInterval = config.getProperty("samples.interval.ms",
+                Long.toString(ResourceSamplingProfiler.DEFAULT_INTERVAL_MS));
 
         ensureResultsDirectory(outputPath);
+        clearSamples(samplesDir);
+        TileSizeCalibrator.loadOrCalibrate(Paths.get(TileSizeCalibrator.DEFAULT_PATH));
+        new AdaptiveMatrixMultiplication().close();
 
         Options opt = new OptionsBuilder()
                 .include(".*BenchmarkRunner.*")
                 .param("matrixSize", matrixSizes)
+                .param("shape", shapes)
+                .param("rows", rows)
+                .param("cols", cols)
+                .param("common", common)
                 .param("numThreads", numThreads)
+                .param("parallelism", numThreads)
+                .param("datasetDir", datasetDir)
+                .param("density", densities)
+                .addProfiler(GCProfiler.class)
+                .addProfiler(ResourceSamplingProfiler.class, "dir=" + samplesDir + ";interval=" + samplingInterval)
                 .result(outputPath.replace(".csv", ".json"))
                 .resultFormat(ResultFormatType.JSON)
                 .build();
 
         Collection<RunResult> results = new Runner(opt).run();
 
-        exportMetrics(results, outputPath);
+        exportMetrics(results, outputPath, samplesDir);
     }
 
     private static void loadConfig() throws IOException {
@@ -75,14 +91,30 @@ public class BenchmarkExecutor {
         }
     }
 
-    private static void exportMetrics(Collection<RunResult> results, String outputPath) {
+    private static void clearSamples(Path samplesDir) {
+        if (!Files.isDirectory(samplesDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(samplesDir, "*.csv")) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not clear resource samples in " + samplesDir + ": " + e.getMessage());
+        }
+    }
+
+    private static void exportMetrics(Collection<RunResult> results, String outputPath, Path samplesDir) {
+        List<String> jsonRows = new ArrayList<>();
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputPath))) {
-            writer.write("Matrix Size;Threads Used;Implementation;Execution Time (ms);Speedup;Efficiency;Memory Used (MB);CPU Used (%);Cores Used;Total Cores;Total Logical Cores\n");
+            writer.write("Matrix Size;Threads Used;Implementation;Execution Time (ms);Speedup;Efficiency;Memory Allocated (MB/op);CPU Used (%);Cores Used;Total Cores;Total Logical Cores;GFLOP/s;Density;Shape;M;N;K;"
+                    + "GFLOP/s per Core;Bytes Moved (MB);Bandwidth (GB/s);Alloc Rate (MB/s);Alloc per Op (B);GC Count;GC Time (ms);"
+                    + "Thread CPU (%);CPU Time per Op (ms);Active Threads;Peak Heap (MB);Samples File\n");
 
             Map<String, Double> baselineTimes = new HashMap<>();
             for (RunResult result : results) {
                 String implementation = result.getParams().getBenchmark();
-                String key = result.getParams().getParam("matrixSize");
+                String key = shapeKey(result);
                 double executionTime = result.getPrimaryResult().getScore();
 
                 if (implementation.contains("basicMultiplication")) {
@@ -98,157 +130,144 @@ public class BenchmarkExecutor {
                 String fullImplementation = result.getParams().getBenchmark();
                 String implementation = extractMethodName(fullImplementation);
                 String matrixSize = result.getParams().getParam("matrixSize");
+                int[] dimensions = dimensions(result);
 
-                String threadsUsed = result.getParams().getParamsKeys().contains("numThreads")
-                        ? result.getParams().getParam("numThreads")
-                        : "1";
+                String threadsUsed = extractThreadsUsed(result);
+                String densityParam = result.getParams().getParam("density");
+                double density = densityParam == null ? 1.0 : Double.parseDouble(densityParam);
 
-                double memoryUsed = calculateMemoryUsageForImplementation(Integer.parseInt(matrixSize), Integer.parseInt(threadsUsed), implementation);
-                double cpuUsed = calculateCpuUsageDuringMultiplication(Integer.parseInt(matrixSize), Integer.parseInt(threadsUsed), implementation);
+                double cpuUsed = BenchmarkMetrics.secondaryScore(result, "cpu.process");
+                double threadCpu = BenchmarkMetrics.secondaryScore(result, "cpu.threads");
+                double cpuTimePerOp = BenchmarkMetrics.secondaryScore(result, "cpu.time.norm");
+                double activeThreads = BenchmarkMetrics.secondaryScore(result, "threads.active.max");
+                double peakHeap = BenchmarkMetrics.secondaryScore(result, "heap.peak");
+                Path samplesFile = ResourceSamplingProfiler.samplesFile(samplesDir, result.getParams());
 
                 double executionTime = result.getPrimaryResult().getScore();
-                double baselineTime = baselineTimes.getOrDefault(matrixSize, executionTime);
+                double baselineTime = baselineTimes.getOrDefault(shapeKey(result), executionTime);
 
                 double speedup = baselineTime / executionTime;
                 int threads = Integer.parseInt(threadsUsed);
                 double efficiency = threads == 1 ? 1.0 : speedup / threads;
 
                 int coresUsed = (int) Math.ceil(threads / threadsPerCore);
-
-                writer.write(String.format("%s;%s;%s;%.3f;%.3f;%.3f;%.2f;%.2f;%d;%d;%d\n",
+                double gflops = BenchmarkMetrics.gflops(dimensions, executionTime);
+                double gflopsPerCore = gflops / Math.min(threads, totalLogicalCores);
+                double bytesMoved = BenchmarkMetrics.bytesMoved(implementation, dimensions, density);
+                double bandwidth = BenchmarkMetrics.bandwidthGBs(bytesMoved, executionTime);
+
+                double allocRate = BenchmarkMetrics.secondaryScore(result, "gc.alloc.rate");
+                double allocPerOp = BenchmarkMetrics.secondaryScore(result, "gc.alloc.rate.norm");
+                double gcCount = BenchmarkMetrics.secondaryScore(result, "gc.count");
+                double gcTime = BenchmarkMetrics.secondaryScore(result, "gc.time");
+                double memoryAllocated = allocPerOp / (1024.0 * 1024.0);
+
+                writer.write(String.format("%s;%s;%s;%.3f;%.3f;%.3f;%.2f;%.2f;%d;%d;%d;%.3f;%s;%s;%d;%d;%d;%.3f;%.3f;%.3f;%.3f;%.1f;%.0f;%.0f;%.2f;%.3f;%.0f;%.2f;%s\n",
                         matrixSize,
                         threadsUsed,
                         fullImplementation,
                         executionTime,
                         speedup,
                         efficiency,
-                        memoryUsed,
+                        memoryAllocated,
                         cpuUsed,
                         coresUsed,
                         totalPhysicalCores,
-                        totalLogicalCores
+                        totalLogicalCores,
+                        gflops,
+                        densityParam == null ? "" : densityParam,
+                        result.getParams().getParam("shape"),
+                        dimensions[0],
+                        dimensions[1],
+                        dimensions[2],
+                        gflopsPerCore,
+                        bytesMoved / (1024.0 * 1024.0),
+                        bandwidth,
+                        allocRate,
+                        allocPerOp,
+                        gcCount,
+                        gcTime,
+                        threadCpu,
+                        cpuTimePerOp,
+                        activeThreads,
+                        peakHeap,
+                        samplesFile
                 ));
+
+                jsonRows.add(String.format(Locale.ROOT,
+                        "  {\"implementation\": \"%s\", \"shape\": \"%s\", \"m\": %d, \"n\": %d, \"k\": %d, \"threads\": %d, \"density\": %s, "
+                                + "\"timeMs\": %s, \"speedup\": %s, \"efficiency\": %s, \"cpuPercent\": %s, \"gflops\": %s, \"gflopsPerCore\": %s, "
+                                + "\"bytesMoved\": %s, \"bandwidthGBs\": %s, \"allocRateMBs\": %s, \"allocBytesPerOp\": %s, \"gcCount\": %s, \"gcTimeMs\": %s, "
+                                + "\"threadCpuPercent\": %s, \"cpuTimePerOpMs\": %s, \"activeThreads\": %s, \"peakHeapMB\": %s, \"samplesFile\": \"%s\"}",
+                        fullImplementation,
+                        result.getParams().getParam("shape"),
+                        dimensions[0],
+                        dimensions[1],
+                        dimensions[2],
+                        threads,
+                        jsonNumber(density),
+                        jsonNumber(executionTime),
+                        jsonNumber(speedup),
+                        jsonNumber(efficiency),
+                        jsonNumber(cpuUsed),
+                        jsonNumber(gflops),
+                        jsonNumber(gflopsPerCore),
+                        jsonNumber(bytesMoved),
+                        jsonNumber(bandwidth),
+                        jsonNumber(allocRate),
+                        jsonNumber(allocPerOp),
+                        jsonNumber(gcCount),
+                        jsonNumber(gcTime),
+                        jsonNumber(threadCpu),
+                        jsonNumber(cpuTimePerOp),
+                        jsonNumber(activeThreads),
+                        jsonNumber(peakHeap),
+                        samplesFile.toString().replace("\\", "/")));
             }
 
             System.out.println("Benchmark results saved to: " + outputPath);
         } catch (IOException e) {
             e.printStackTrace();
         }
-    }
-
-    private static double calculateCpuUsageDuringMultiplication(int matrixSize, int nThreads, String method) {
-        double[][] a = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
-        double[][] b = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
-
-        long startCpuTime = OS_BEAN.getProcessCpuTime();
-        long startWallTime = System.nanoTime();
-
-        switch (method) {
-            case "basicMultiplication":
-                new BasicMatrixMultiplication().multiply(a, b);
-                break;
-            case "parallelExecutors":
-                new ParallelMatrixExecutors(nThreads).multiply(a, b);
-                break;
-            case "parallelThreads":
-                new ParallelMatrixThreads(nThreads).multiply(a, b);
-                break;
-            case "parallelStreams":
-                new ParallelMatrixStreams().multiply(a, b);
-                break;
-            case "parallelAtomic":
-                new ParallelMatrixAtomic().multiply(a, b);
-                break;
-            case "parallelSemaphore":
-                new ParallelMatrixSemaphore().multiply(a, b);
-                break;
-            case "parallelSynchronized":
-                new ParallelMatrixSynchronized().multiply(a, b);
-                break;
-            case "vectorizedMultiplication":
-                new VectorizedMatrixMultiplication().multiply(a, b);
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown multiplication method: " + method);
-        }
-
-        long endCpuTime = OS_BEAN.getProcessCpuTime();
-        long endWallTime = System.nanoTime();
-
-        long cpuTimeUsed = endCpuTime - startCpuTime;
-        long wallTimeElapsed = endWallTime - startWallTime;
 
-        if (wallTimeElapsed <= 0) {
-            return 0.0;
+        String metricsPath = outputPath.replace(".csv", "_metrics.json");
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(metricsPath))) {
+            writer.write("[\n" + String.join(",\n", jsonRows) + "\n]\n");
+            System.out.println("Benchmark metrics saved to: " + metricsPath);
+        } catch (IOException e) {
+            e.printStackTrace();
         }
-
-        int totalLogicalCores = OS_BEAN.getAvailableProcessors();
-        double cpuUsage = ((double) cpuTimeUsed / (wallTimeElapsed * totalLogicalCores)) * 100;
-
-        return Math.min(cpuUsage, 100.0);
     }
 
+    private static String jsonNumber(double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.6g", value) : "null";
+    }
 
-    private static double calculateMemoryUsageForImplementation(int matrixSize, int nThreads, String method) {
-        double[][] a = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
-        double[][] b = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+    private static int[] dimensions(RunResult result) {
+        return BenchmarkRunner.GlobalMatrixState.dimensions(
+                Integer.parseInt(result.getParams().getParam("matrixSize")),
+                MatrixShape.valueOf(result.getParams().getParam("shape")),
+                Integer.parseInt(result.getParams().getParam("rows")),
+                Integer.parseInt(result.getParams().getParam("cols")),
+                Integer.parseInt(result.getParams().getParam("common")));
+    }
 
-        System.gc();
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private static String shapeKey(RunResult result) {
+        int[] dimensions = dimensions(result);
+        return result.getParams().getParam("shape") + ":" + dimensions[0] + "x" + dimensions[1] + "x" + dimensions[2];
+    }
 
-        long beforeMemory = getUsedMemory();
-
-        switch (method) {
-            case "basicMultiplication":
-                new BasicMatrixMultiplication().multiply(a, b);
-                break;
-            case "parallelExecutors":
-                new ParallelMatrixExecutors(nThreads).multiply(a, b);
-                break;
-            case "parallelThreads":
-                new ParallelMatrixThreads(nThreads).multiply(a, b);
-                break;
-            case "parallelStreams":
-                new ParallelMatrixStreams().multiply(a, b);
-                break;
-            case "parallelAtomic":
-                new ParallelMatrixAtomic().multiply(a, b);
-                break;
-            case "parallelSemaphore":
-                new ParallelMatrixSemaphore().multiply(a, b);
-                break;
-            case "parallelSynchronized":
-                new ParallelMatrixSynchronized().multiply(a, b);
-                break;
-            case "vectorizedMultiplication":
-                new VectorizedMatrixMultiplication().multiply(a, b);
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown multiplication method: " + method);
+    private static String extractThreadsUsed(RunResult result) {
+        Collection<String> keys = result.getParams().getParamsKeys();
+        if (keys.contains("numThreads")) {
+            return result.getParams().getParam("numThreads");
         }
-
-        System.gc();
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        if (keys.contains("parallelism")) {
+            return result.getParams().getParam("parallelism");
         }
-
-        long afterMemory = getUsedMemory();
-
-        return Math.max(0.0, (afterMemory - beforeMemory) / (1024.0 * 1024.0));
+        return "1";
     }
 
-    private static long getUsedMemory() {
-        Runtime runtime = Runtime.getRuntime();
-        return runtime.totalMemory() - runtime.freeMemory();
-    }
-
-
     private static String extractMethodName(String fullImplementation) {
         if (fullImplementation.contains(".")) {
             return fullImplementation.substring(fullImplementation.lastIndexOf('.') + 1);
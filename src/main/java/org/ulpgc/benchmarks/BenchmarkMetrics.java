@@ -0,0 +1,66 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.ulpgc.matrix.sparse.DensityRoutingMatrixMultiplication;
+
+import java.util.Map;
+
+public class BenchmarkMetrics {
+    private static final int INDEX_BYTES = Integer.BYTES;
+
+    public static double flops(int[] dimensions) {
+        return 2.0 * dimensions[0] * dimensions[1] * dimensions[2];
+    }
+
+    public static double gflops(int[] dimensions, double executionTimeMs) {
+        return executionTimeMs <= 0 ? 0.0 : flops(dimensions) / (executionTimeMs * 1e6);
+    }
+
+    public static double bytesMoved(String method, int[] dimensions, double density) {
+        double rows = dimensions[0];
+        double cols = dimensions[1];
+        double common = dimensions[2];
+        double a = rows * common;
+        double b = common * cols;
+        double c = rows * cols;
+
+        if (method.contains("Int8")) {
+            return a + b + c * Integer.BYTES;
+        }
+        if (method.contains("halfPrecision")) {
+            return (a + b) * Short.BYTES + c * Float.BYTES;
+        }
+        if (method.contains("Float")) {
+            return (a + b + c) * Float.BYTES;
+        }
+        if (method.equals("sparseSparseMultiplication")
+                || (method.equals("densityRoutedMultiplication")
+                && density < DensityRoutingMatrixMultiplication.DEFAULT_THRESHOLD)) {
+            double productDensity = 1.0 - Math.pow(1.0 - density * density, common);
+            return csrBytes(rows, common, density) + csrBytes(common, cols, density)
+                    + csrBytes(rows, cols, productDensity);
+        }
+        if (method.equals("sparseDenseMultiplication")) {
+            return csrBytes(rows, common, density) + (b + c) * Double.BYTES;
+        }
+        return (a + b + c) * Double.BYTES;
+    }
+
+    public static double bandwidthGBs(double bytes, double executionTimeMs) {
+        return executionTimeMs <= 0 ? 0.0 : bytes / (executionTimeMs * 1e6);
+    }
+
+    public static double secondaryScore(RunResult result, String name) {
+        for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+            if (entry.getKey().replace("\u00b7", "").equals(name)) {
+                return entry.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double csrBytes(double rows, double cols, double density) {
+        return rows * cols * density * (Double.BYTES + INDEX_BYTES) + (rows + 1) * INDEX_BYTES;
+    }
+}
@@ -1,13 +1,29 @@
 package org.ulpgc.benchmarks;
 
 import org.openjdk.jmh.annotations.*;
+import org.ulpgc.matrix.adaptive.AdaptiveMatrixMultiplication;
 import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.offheap.OffHeapMatrix;
+import org.ulpgc.matrix.offheap.OffHeapMatrixMultiplication;
+import org.ulpgc.matrix.blocked.BlockedMatrixMultiplication;
 import org.ulpgc.matrix.parallel.executors.ParallelMatrixExecutors;
+import org.ulpgc.matrix.parallel.forkjoin.ForkJoinMatrixMultiplication;
 import org.ulpgc.matrix.parallel.streams.ParallelMatrixStreams;
 import org.ulpgc.matrix.parallel.synchronization.*;
+import org.ulpgc.matrix.precision.*;
+import org.ulpgc.matrix.quantized.*;
+import org.ulpgc.matrix.sparse.CsrMatrix;
+import org.ulpgc.matrix.sparse.DensityRoutingMatrixMultiplication;
+import org.ulpgc.matrix.sparse.SparseMatrixMultiplication;
+import org.ulpgc.matrix.strassen.StrassenMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.ParallelVectorizedMatrixMultiplication;
 import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixFile;
 import org.ulpgc.utils.MatrixGenerator;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -22,13 +38,141 @@ public class BenchmarkRunner {
         @Param({"64", "128", "512", "1024", "2048"})
         public int matrixSize;
 
+        @Param({"SQUARE"})
+        public MatrixShape shape;
+
+        @Param({"0"})
+        public int rows;
+
+        @Param({"0"})
+        public int cols;
+
+        @Param({"0"})
+        public int common;
+
+        @Param({""})
+        public String datasetDir;
+
+        public static final long SEED_A = 1L;
+        public static final long SEED_B = 2L;
+
+        public int rowsA;
+        public int colsA;
+        public int colsB;
         public double[][] matrixA;
         public double[][] matrixB;
 
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            int[] dimensions = dimensions(matrixSize, shape, rows, cols, common);
+            rowsA = dimensions[0];
+            colsB = dimensions[1];
+            colsA = dimensions[2];
+            matrixA = loadMatrix(datasetDir, "matrixA", rowsA, colsA, SEED_A);
+            matrixB = loadMatrix(datasetDir, "matrixB", colsA, colsB, SEED_B);
+        }
+
+        public static int[] dimensions(int matrixSize, MatrixShape shape, int rows, int cols, int common) {
+            return new int[]{
+                    rows > 0 ? rows : shape.rows(matrixSize),
+                    cols > 0 ? cols : shape.cols(matrixSize),
+                    common > 0 ? common : shape.common(matrixSize)};
+        }
+
+        public static double[][] loadMatrix(String datasetDir, String name, int rows, int cols, long seed)
+                throws IOException {
+            if (datasetDir == null || datasetDir.isBlank()) {
+                return MatrixGenerator.generateMatrix(rows, cols);
+            }
+            return MatrixFile.loadOrGenerate(Paths.get(datasetDir), name, rows, cols, seed);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class OffHeapState {
+        @Param({"64", "128", "512", "1024", "2048"})
+        public int matrixSize;
+
+        @Param({"SQUARE"})
+        public MatrixShape shape;
+
+        @Param({"0"})
+        public int rows;
+
+        @Param({"0"})
+        public int cols;
+
+        @Param({"0"})
+        public int common;
+
+        public OffHeapMatrix matrixA;
+        public OffHeapMatrix matrixB;
+        public OffHeapMatrix result;
+
         @Setup(Level.Trial)
         public void setup() {
-            matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
-            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            int[] dimensions = GlobalMatrixState.dimensions(matrixSize, shape, rows, cols, common);
+            matrixA = OffHeapMatrix.allocate(dimensions[0], dimensions[2]);
+            matrixB = OffHeapMatrix.allocate(dimensions[2], dimensions[1]);
+            result = OffHeapMatrix.allocate(dimensions[0], dimensions[1]);
+            MatrixGenerator.fillMatrix(matrixA, GlobalMatrixState.SEED_A);
+            MatrixGenerator.fillMatrix(matrixB, GlobalMatrixState.SEED_B);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            matrixA.close();
+            matrixB.close();
+            result.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FloatState {
+        public float[][] matrixA;
+        public float[][] matrixB;
+        public HalfMatrix halfA;
+        public HalfMatrix halfB;
+
+        @Setup(Level.Trial)
+        public void setup(GlobalMatrixState matrixState) {
+            matrixA = FloatMatrixAdapter.toFloat(matrixState.matrixA);
+            matrixB = FloatMatrixAdapter.toFloat(matrixState.matrixB);
+            halfA = HalfMatrix.fromArray(matrixA);
+            halfB = HalfMatrix.fromArray(matrixB);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class QuantizedState {
+        public QuantizedMatrix matrixA;
+        public QuantizedMatrix matrixB;
+
+        @Setup(Level.Trial)
+        public void setup(GlobalMatrixState matrixState) {
+            matrixA = QuantizedMatrix.quantize(matrixState.matrixA);
+            matrixB = QuantizedMatrix.quantize(matrixState.matrixB);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SparseState {
+        @Param({"0.001", "0.01", "0.05", "0.2"})
+        public double density;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+        public CsrMatrix csrA;
+        public CsrMatrix csrB;
+
+        @Setup(Level.Trial)
+        public void setup(GlobalMatrixState matrixState) {
+            matrixA = MatrixGenerator.generateSparseMatrix(matrixState.rowsA, matrixState.colsA, density,
+                    GlobalMatrixState.SEED_A);
+            matrixB = MatrixGenerator.generateSparseMatrix(matrixState.colsA, matrixState.colsB, density,
+                    GlobalMatrixState.SEED_B);
+            csrA = CsrMatrix.fromArray(matrixA);
+            csrB = CsrMatrix.fromArray(matrixB);
         }
     }
 
@@ -38,6 +182,84 @@ public class BenchmarkRunner {
         public int numThreads;
     }
 
+    @State(Scope.Thread)
+    public static class ExecutorPoolState {
+        public ParallelMatrixExecutors multiplication;
+
+        @Setup(Level.Trial)
+        public void setup(ParallelState parallelState) {
+            multiplication = new ParallelMatrixExecutors(parallelState.numThreads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            multiplication.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ParallelVectorizedState {
+        public ParallelVectorizedMatrixMultiplication multiplication;
+
+        @Setup(Level.Trial)
+        public void setup(ParallelState parallelState) {
+            multiplication = new ParallelVectorizedMatrixMultiplication(parallelState.numThreads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            multiplication.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DensityRoutingState {
+        public DensityRoutingMatrixMultiplication multiplication;
+
+        @Setup(Level.Trial)
+        public void setup(ParallelState parallelState) {
+            multiplication = new DensityRoutingMatrixMultiplication(parallelState.numThreads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            multiplication.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AdaptiveState {
+        public AdaptiveMatrixMultiplication multiplication;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            multiplication = new AdaptiveMatrixMultiplication();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            multiplication.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ForkJoinState {
+        @Param({"1", "2", "4", "8", "16"})
+        public int parallelism;
+
+        public ForkJoinMatrixMultiplication multiplication;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            multiplication = new ForkJoinMatrixMultiplication(parallelism);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            multiplication.close();
+        }
+    }
+
     @Benchmark
     public double[][] basicMultiplication(GlobalMatrixState state) {
         return new BasicMatrixMultiplication().multiply(state.matrixA, state.matrixB);
@@ -45,7 +267,15 @@ public class BenchmarkRunner {
 
     @Benchmark
     public double[][] parallelExecutors(GlobalMatrixState matrixState, ParallelState parallelState) {
-        return new ParallelMatrixExecutors(parallelState.numThreads).multiply(matrixState.matrixA, matrixState.matrixB);
+        try (ParallelMatrixExecutors multiplication = new ParallelMatrixExecutors(parallelState.numThreads)) {
+            return multiplication.multiply(matrixState.matrixA, matrixState.matrixB);
+        }
+    }
+
+    @Benchmark
+    public double[][] parallelExecutorsWarm(GlobalMatrixState matrixState, ParallelState parallelState,
+                                            ExecutorPoolState poolState) {
+        return poolState.multiplication.multiply(matrixState.matrixA, matrixState.matrixB);
     }
 
     @Benchmark
@@ -73,8 +303,103 @@ public class BenchmarkRunner {
         return new ParallelMatrixSynchronized().multiply(state.matrixA, state.matrixB);
     }
 
+    @Benchmark
+    public double[][] blockedMultiplication(GlobalMatrixState state) {
+        return new BlockedMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
     @Benchmark
     public double[][] vectorizedMultiplication(GlobalMatrixState state) {
         return new VectorizedMatrixMultiplication().multiply(state.matrixA, state.matrixB);
     }
+
+    @Benchmark
+    public double[][] packedVectorizedMultiplication(GlobalMatrixState state) {
+        return new PackedVectorizedMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] parallelVectorized(GlobalMatrixState matrixState, ParallelState parallelState,
+                                         ParallelVectorizedState vectorizedState) {
+        return vectorizedState.multiplication.multiply(matrixState.matrixA, matrixState.matrixB);
+    }
+
+    @Benchmark
+    public double[][] adaptiveMultiplication(GlobalMatrixState matrixState, AdaptiveState adaptiveState) {
+        return adaptiveState.multiplication.multiply(matrixState.matrixA, matrixState.matrixB);
+    }
+
+    @Benchmark
+    public double[][] forkJoinMultiplication(GlobalMatrixState matrixState, ForkJoinState forkJoinState) {
+        return forkJoinState.multiplication.multiply(matrixState.matrixA, matrixState.matrixB);
+    }
+
+    @Benchmark
+    public double[][] strassenMultiplication(GlobalMatrixState state) {
+        return new StrassenMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public float[][] basicFloatMultiplication(FloatState state) {
+        return new BasicFloatMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public float[][] parallelFloatMultiplication(FloatState state) {
+        return new ParallelFloatMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public float[][] vectorizedFloatMultiplication(FloatState state) {
+        return new VectorizedFloatMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public float[][] halfPrecisionMultiplication(FloatState state) {
+        return new HalfPrecisionMatrixMultiplication().multiply(state.halfA, state.halfB);
+    }
+
+    @Benchmark
+    public int[][] basicInt8Multiplication(QuantizedState state) {
+        return new BasicIntegerMatrixMultiplication().multiply(state.matrixA.values(), state.matrixB.values());
+    }
+
+    @Benchmark
+    public int[][] parallelInt8Multiplication(QuantizedState state) {
+        return new ParallelIntegerMatrixMultiplication().multiply(state.matrixA.values(), state.matrixB.values());
+    }
+
+    @Benchmark
+    public int[][] vectorizedInt8Multiplication(QuantizedState state) {
+        return new VectorizedIntegerMatrixMultiplication().multiply(state.matrixA.values(), state.matrixB.values());
+    }
+
+    @Benchmark
+    public int[][] parallelVectorizedInt8Multiplication(QuantizedState state) {
+        return new VectorizedIntegerMatrixMultiplication(true).multiply(state.matrixA.values(),
+                state.matrixB.values());
+    }
+
+    @Benchmark
+    public double[][] sparseDenseMultiplication(GlobalMatrixState matrixState, SparseState sparseState,
+                                                ParallelState parallelState) {
+        return new SparseMatrixMultiplication(parallelState.numThreads).multiply(sparseState.csrA, matrixState.matrixB);
+    }
+
+    @Benchmark
+    public CsrMatrix sparseSparseMultiplication(SparseState sparseState, ParallelState parallelState) {
+        return new SparseMatrixMultiplication(parallelState.numThreads).multiply(sparseState.csrA, sparseState.csrB);
+    }
+
+    @Benchmark
+    public double[][] densityRoutedMultiplication(SparseState sparseState, ParallelState parallelState,
+                                                  DensityRoutingState routingState) {
+        return routingState.multiplication.multiply(sparseState.matrixA, sparseState.matrixB);
+    }
+
+    @Benchmark
+    public OffHeapMatrix offHeapMultiplication(OffHeapState state) {
+        new OffHeapMatrixMultiplication().multiply(state.matrixA, state.matrixB, state.result);
+        return state.result;
+    }
 }
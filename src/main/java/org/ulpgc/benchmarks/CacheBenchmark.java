@@ -0,0 +1,126 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.cache.CachingMatrixMultiplication;
+import org.ulpgc.matrix.cache.MatrixFingerprint;
+import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class CacheBenchmark {
+
+    @State(Scope.Thread)
+    public static class CacheState {
+        @Param({"8", "16", "32", "64", "128", "256", "512"})
+        public int matrixSize;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+        public double[][] result;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            result = new double[matrixSize][matrixSize];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EngineState {
+        @Param({"basic", "vectorized"})
+        public String engine;
+
+        public MatrixMultiplication multiplication;
+        public CachingMatrixMultiplication cached;
+
+        @Setup(Level.Trial)
+        public void setup(CacheState state) {
+            multiplication = engine.equals("basic")
+                    ? new BasicMatrixMultiplication()
+                    : new VectorizedMatrixMultiplication();
+            cached = new CachingMatrixMultiplication(multiplication);
+            cached.multiplyInto(state.matrixA, state.matrixB, state.result, 1.0, 0.0);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            cached.close();
+        }
+    }
+
+    @Benchmark
+    public double[][] recompute(CacheState state, EngineState engineState) {
+        engineState.multiplication.multiplyInto(state.matrixA, state.matrixB, state.result, 1.0, 0.0);
+        return state.result;
+    }
+
+    @Benchmark
+    public MatrixFingerprint fingerprint(CacheState state) {
+        return MatrixFingerprint.of(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] cachedHit(CacheState state, EngineState engineState) {
+        engineState.cached.multiplyInto(state.matrixA, state.matrixB, state.result, 1.0, 0.0);
+        return state.result;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(CacheBenchmark.class.getSimpleName())
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+
+        Map<String, Map<Integer, double[]>> scores = new TreeMap<>();
+        Map<Integer, Double> fingerprints = new TreeMap<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            int matrixSize = Integer.parseInt(result.getParams().getParam("matrixSize"));
+            if (method.equals("fingerprint")) {
+                fingerprints.put(matrixSize, result.getPrimaryResult().getScore());
+                continue;
+            }
+            double[] row = scores.computeIfAbsent(result.getParams().getParam("engine"), key -> new TreeMap<>())
+                    .computeIfAbsent(matrixSize, key -> new double[2]);
+            switch (method) {
+                case "recompute" -> row[0] = result.getPrimaryResult().getScore();
+                case "cachedHit" -> row[1] = result.getPrimaryResult().getScore();
+                default -> { }
+            }
+        }
+
+        System.out.printf("%n%-12s %8s %16s %16s %16s%n", "Engine", "Size", "Recompute (us)", "Fingerprint (us)",
+                "Cache hit (us)");
+        for (Map.Entry<String, Map<Integer, double[]>> engine : scores.entrySet()) {
+            Integer crossover = null;
+            for (Map.Entry<Integer, double[]> size : engine.getValue().entrySet()) {
+                double[] row = size.getValue();
+                System.out.printf("%-12s %8d %16.3f %16.3f %16.3f%n", engine.getKey(), size.getKey(), row[0],
+                        fingerprints.getOrDefault(size.getKey(), Double.NaN), row[1]);
+                if (crossover == null && row[1] < row[0]) {
+                    crossover = size.getKey();
+                }
+            }
+            System.out.println("Cache hits beat recomputation for " + engine.getKey() + " from size: "
+                    + (crossover == null ? "never" : crossover));
+        }
+    }
+}
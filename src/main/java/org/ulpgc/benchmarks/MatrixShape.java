@@ -0,0 +1,51 @@
+package org.ulpgc.benchmarks;
+
+public enum MatrixShape {
+    SQUARE,
+    TALL_SKINNY,
+    SHORT_WIDE,
+    OUTER_PRODUCT,
+    INNER_PRODUCT;
+
+    public static final int THIN_SIZE = 64;
+    public static final int RANK = 16;
+
+    public int rows(int matrixSize) {
+        return switch (this) {
+            case SQUARE, OUTER_PRODUCT -> matrixSize;
+            case TALL_SKINNY -> stretched(matrixSize, thin(matrixSize));
+            case SHORT_WIDE -> thin(matrixSize);
+            case INNER_PRODUCT -> rank(matrixSize);
+        };
+    }
+
+    public int cols(int matrixSize) {
+        return switch (this) {
+            case SQUARE, OUTER_PRODUCT -> matrixSize;
+            case TALL_SKINNY -> thin(matrixSize);
+            case SHORT_WIDE -> stretched(matrixSize, thin(matrixSize));
+            case INNER_PRODUCT -> rank(matrixSize);
+        };
+    }
+
+    public int common(int matrixSize) {
+        return switch (this) {
+            case SQUARE -> matrixSize;
+            case TALL_SKINNY, SHORT_WIDE -> thin(matrixSize);
+            case OUTER_PRODUCT -> rank(matrixSize);
+            case INNER_PRODUCT -> stretched(matrixSize, rank(matrixSize));
+        };
+    }
+
+    private static int thin(int matrixSize) {
+        return Math.min(THIN_SIZE, matrixSize);
+    }
+
+    private static int rank(int matrixSize) {
+        return Math.min(RANK, matrixSize);
+    }
+
+    private static int stretched(int matrixSize, int thin) {
+        return (int) ((long) matrixSize * matrixSize / thin);
+    }
+}
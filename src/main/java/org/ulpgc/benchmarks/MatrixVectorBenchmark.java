@@ -0,0 +1,101 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.gemv.MatrixVectorRoutingMultiplication;
+import org.ulpgc.matrix.gemv.ParallelMatrixVector;
+import org.ulpgc.matrix.gemv.ScalarMatrixVector;
+import org.ulpgc.matrix.gemv.VectorizedMatrixVector;
+import org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MatrixVectorBenchmark {
+
+    @State(Scope.Thread)
+    public static class VectorState {
+        @Param({"256", "1024", "4096"})
+        public int matrixSize;
+
+        public double[][] matrix;
+        public double[] vector;
+        public double[][] column;
+        public double[][] row;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrix = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            column = MatrixGenerator.generateMatrix(matrixSize, 1);
+            row = MatrixGenerator.generateMatrix(1, matrixSize);
+            vector = row[0];
+        }
+    }
+
+    @Benchmark
+    public double[][] gemvBasic(VectorState state) {
+        return new BasicMatrixMultiplication().multiply(state.matrix, state.column);
+    }
+
+    @Benchmark
+    public double[][] gemvPacked(VectorState state) {
+        return new PackedVectorizedMatrixMultiplication().multiply(state.matrix, state.column);
+    }
+
+    @Benchmark
+    public double[] gemvScalar(VectorState state) {
+        return new ScalarMatrixVector().multiply(state.matrix, state.vector);
+    }
+
+    @Benchmark
+    public double[] gemvVectorized(VectorState state) {
+        return new VectorizedMatrixVector().multiply(state.matrix, state.vector);
+    }
+
+    @Benchmark
+    public double[] gemvParallel(VectorState state) {
+        return new ParallelMatrixVector().multiply(state.matrix, state.vector);
+    }
+
+    @Benchmark
+    public double[][] gemvRouted(VectorState state) {
+        return new MatrixVectorRoutingMultiplication(new PackedVectorizedMatrixMultiplication())
+                .multiply(state.matrix, state.column);
+    }
+
+    @Benchmark
+    public double[][] gevmBasic(VectorState state) {
+        return new BasicMatrixMultiplication().multiply(state.row, state.matrix);
+    }
+
+    @Benchmark
+    public double[][] gevmPacked(VectorState state) {
+        return new PackedVectorizedMatrixMultiplication().multiply(state.row, state.matrix);
+    }
+
+    @Benchmark
+    public double[] gevmScalar(VectorState state) {
+        return new ScalarMatrixVector().multiply(state.vector, state.matrix);
+    }
+
+    @Benchmark
+    public double[] gevmVectorized(VectorState state) {
+        return new VectorizedMatrixVector().multiply(state.vector, state.matrix);
+    }
+
+    @Benchmark
+    public double[] gevmParallel(VectorState state) {
+        return new ParallelMatrixVector().multiply(state.vector, state.matrix);
+    }
+
+    @Benchmark
+    public double[][] gevmRouted(VectorState state) {
+        return new MatrixVectorRoutingMultiplication(new PackedVectorizedMatrixMultiplication())
+                .multiply(state.row, state.matrix);
+    }
+}
@@ -0,0 +1,85 @@
+package org.ulpgc.benchmarks;
+
+import org.ulpgc.matrix.outofcore.MappedMatrix;
+import org.ulpgc.matrix.outofcore.OutOfCoreMatrixMultiplication;
+import org.ulpgc.matrix.outofcore.OutOfCoreStats;
+import org.ulpgc.utils.MatrixFile;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+public class OutOfCoreBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "results/out_of_core");
+        int matrixSize = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int tileSize = args.length > 2 ? Integer.parseInt(args[2]) : OutOfCoreMatrixMultiplication.DEFAULT_TILE_SIZE;
+        int numThreads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        Files.createDirectories(directory);
+        Path pathA = directory.resolve("matrixA_" + matrixSize + MatrixFile.EXTENSION);
+        Path pathB = directory.resolve("matrixB_" + matrixSize + MatrixFile.EXTENSION);
+        Path pathC = directory.resolve("matrixC_" + matrixSize + MatrixFile.EXTENSION);
+        for (Path path : new Path[]{pathA, pathB}) {
+            if (!isReusable(path, matrixSize)) {
+                System.out.println("Generating " + matrixSize + "x" + matrixSize + " input matrix " + path);
+                generate(path, matrixSize);
+            }
+        }
+
+        Path tempC = Files.createTempFile(directory, "matrixC", MatrixFile.EXTENSION + ".tmp");
+        try {
+            OutOfCoreStats stats;
+            try (MappedMatrix matrixA = MappedMatrix.openMatrixFile(pathA);
+                 MappedMatrix matrixB = MappedMatrix.openMatrixFile(pathB);
+                 MappedMatrix result = MappedMatrix.createMatrixFile(tempC, matrixSize, matrixSize);
+                 OutOfCoreMatrixMultiplication multiplication = new OutOfCoreMatrixMultiplication(numThreads, tileSize)) {
+                stats = multiplication.multiply(matrixA, matrixB, result);
+                result.force();
+            }
+            MatrixFile.seal(tempC, matrixSize, matrixSize);
+            Files.move(tempC, pathC, StandardCopyOption.ATOMIC_MOVE);
+
+            System.out.printf("Matrix Size: %d, Tile Size: %d, Threads: %d%n", matrixSize, tileSize, numThreads);
+            System.out.printf("Elapsed: %.2f s, GFLOP/s: %.3f, Bandwidth: %.3f GB/s (read %.2f GB, written %.2f GB)%n",
+                    stats.seconds(), stats.gflops(), stats.bandwidthGBs(),
+                    stats.bytesRead() / 1e9, stats.bytesWritten() / 1e9);
+        } finally {
+            Files.deleteIfExists(tempC);
+        }
+    }
+
+    private static boolean isReusable(Path path, int matrixSize) {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try {
+            MatrixFile.Header header = MatrixFile.verify(path);
+            if (header.rows() == matrixSize && header.cols() == matrixSize) {
+                return true;
+            }
+            System.err.println("Could not reuse " + path + ": unexpected shape, regenerating");
+        } catch (IOException e) {
+            System.err.println("Could not reuse " + path + ": " + e.getMessage() + ", regenerating");
+        }
+        return false;
+    }
+
+    private static void generate(Path path, int matrixSize) throws IOException {
+        Path temp = Files.createTempFile(path.getParent(), "matrix", MatrixFile.EXTENSION + ".tmp");
+        try {
+            try (MappedMatrix matrix = MappedMatrix.createMatrixFile(temp, matrixSize, matrixSize)) {
+                MatrixGenerator.fillMatrix(matrix);
+                matrix.force();
+            }
+            MatrixFile.seal(temp, matrixSize, matrixSize);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
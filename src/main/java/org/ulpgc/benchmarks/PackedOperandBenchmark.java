@@ -0,0 +1,108 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.ulpgc.matrix.vectorized.PackedMatrix;
+import org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class PackedOperandBenchmark {
+    private static final int DISTINCT_A = 8;
+
+    @State(Scope.Thread)
+    public static class ReuseState {
+        @Param({"256", "257", "513", "1000", "1024"})
+        public int matrixSize;
+
+        @Param({"4", "64"})
+        public int rowsA;
+
+        @Param({"1", "10", "1000"})
+        public int reuses;
+
+        public double[][][] matricesA;
+        public double[][] matrixB;
+        public double[][] result;
+        public VectorizedMatrixMultiplication vectorized;
+        public PackedVectorizedMatrixMultiplication packed;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matricesA = new double[DISTINCT_A][][];
+            for (int m = 0; m < DISTINCT_A; m++) {
+                matricesA[m] = MatrixGenerator.generateMatrix(rowsA, matrixSize);
+            }
+            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            result = new double[rowsA][matrixSize];
+            vectorized = new VectorizedMatrixMultiplication();
+            packed = new PackedVectorizedMatrixMultiplication();
+        }
+    }
+
+    @Benchmark
+    public double[][] vectorizedUnprepared(ReuseState state) {
+        for (int r = 0; r < state.reuses; r++) {
+            state.vectorized.multiplyInto(state.matricesA[r % DISTINCT_A], state.matrixB, state.result, 1.0, 0.0);
+        }
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] packedUnprepared(ReuseState state) {
+        for (int r = 0; r < state.reuses; r++) {
+            state.packed.multiplyInto(state.matricesA[r % DISTINCT_A], state.matrixB, state.result, 1.0, 0.0);
+        }
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] prepared(ReuseState state) {
+        PackedMatrix matrixB = state.packed.prepare(state.matrixB);
+        for (int r = 0; r < state.reuses; r++) {
+            state.packed.multiplyInto(state.matricesA[r % DISTINCT_A], matrixB, state.result, 1.0, 0.0);
+        }
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] preparedOffHeap(ReuseState state) {
+        try (PackedMatrix matrixB = PackedMatrix.pack(state.matrixB, true)) {
+            for (int r = 0; r < state.reuses; r++) {
+                state.packed.multiplyInto(state.matricesA[r % DISTINCT_A], matrixB, state.result, 1.0, 0.0);
+            }
+        }
+        return state.result;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(PackedOperandBenchmark.class.getSimpleName())
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+
+        System.out.printf("%n%-24s %8s %8s %8s %14s %10s%n", "Benchmark", "Size", "Rows A", "Reuses",
+                "Per call (us)", "GFLOP/s");
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            int matrixSize = Integer.parseInt(result.getParams().getParam("matrixSize"));
+            int rowsA = Integer.parseInt(result.getParams().getParam("rowsA"));
+            int reuses = Integer.parseInt(result.getParams().getParam("reuses"));
+            double perCall = result.getPrimaryResult().getScore() * 1e3 / reuses;
+            System.out.printf("%-24s %8d %8d %8d %14.3f %10.3f%n", benchmark.substring(benchmark.lastIndexOf('.') + 1),
+                    matrixSize, rowsA, reuses, perCall, 2.0 * rowsA * matrixSize * matrixSize / (perCall * 1e3));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.ulpgc.matrix.FloatMatrixMultiplication;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.precision.*;
+import org.ulpgc.matrix.quantized.QuantizedMatrix;
+import org.ulpgc.matrix.quantized.QuantizedMatrixAdapter;
+import org.ulpgc.matrix.quantized.VectorizedIntegerMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class PrecisionBenchmark {
+
+    @State(Scope.Thread)
+    public static class PrecisionState {
+        @Param({"256", "512", "1024"})
+        public int matrixSize;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+        public float[][] floatA;
+        public float[][] floatB;
+        public HalfMatrix halfA;
+        public HalfMatrix halfB;
+        public QuantizedMatrix quantizedA;
+        public QuantizedMatrix quantizedB;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            floatA = FloatMatrixAdapter.toFloat(matrixA);
+            floatB = FloatMatrixAdapter.toFloat(matrixB);
+            halfA = HalfMatrix.fromArray(floatA);
+            halfB = HalfMatrix.fromArray(floatB);
+            quantizedA = QuantizedMatrix.quantize(matrixA);
+            quantizedB = QuantizedMatrix.quantize(matrixB);
+        }
+    }
+
+    @Benchmark
+    public double[][] basicDouble(PrecisionState state) {
+        return new BasicMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] packedVectorizedDouble(PrecisionState state) {
+        return new PackedVectorizedMatrixMultiplication().multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public float[][] basicFloat(PrecisionState state) {
+        return new BasicFloatMatrixMultiplication().multiply(state.floatA, state.floatB);
+    }
+
+    @Benchmark
+    public float[][] parallelFloat(PrecisionState state) {
+        return new ParallelFloatMatrixMultiplication().multiply(state.floatA, state.floatB);
+    }
+
+    @Benchmark
+    public float[][] vectorizedFloat(PrecisionState state) {
+        return new VectorizedFloatMatrixMultiplication().multiply(state.floatA, state.floatB);
+    }
+
+    @Benchmark
+    public float[][] halfPrecision(PrecisionState state) {
+        return new HalfPrecisionMatrixMultiplication().multiply(state.halfA, state.halfB);
+    }
+
+    @Benchmark
+    public int[][] vectorizedInt8(PrecisionState state) {
+        return new VectorizedIntegerMatrixMultiplication().multiply(state.quantizedA.values(),
+                state.quantizedB.values());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(PrecisionBenchmark.class.getSimpleName())
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+
+        TreeSet<Integer> sizes = new TreeSet<>();
+        System.out.printf("%n%-24s %8s %12s %10s%n", "Benchmark", "Size", "Time (ms)", "GFLOP/s");
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            int matrixSize = Integer.parseInt(result.getParams().getParam("matrixSize"));
+            double score = result.getPrimaryResult().getScore();
+            sizes.add(matrixSize);
+            System.out.printf("%-24s %8d %12.3f %10.3f%n", benchmark.substring(benchmark.lastIndexOf('.') + 1),
+                    matrixSize, score, 2.0 * matrixSize * matrixSize * matrixSize / (score * 1e6));
+        }
+
+        System.out.printf("%n%-24s %8s %14s %14s %14s%n", "Engine", "Size", "Footprint (B)", "Max abs err",
+                "Max rel err");
+        for (int matrixSize : sizes) {
+            reportAccuracy(matrixSize);
+        }
+    }
+
+    private static void reportAccuracy(int matrixSize) {
+        double[][] matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+        double[][] matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+        double[][] reference = new BasicMatrixMultiplication().multiply(matrixA, matrixB);
+        float[][] floatA = FloatMatrixAdapter.toFloat(matrixA);
+        float[][] floatB = FloatMatrixAdapter.toFloat(matrixB);
+        long elements = (long) matrixSize * matrixSize;
+
+        Map<String, FloatMatrixMultiplication> engines = new LinkedHashMap<>();
+        engines.put("basicFloat", new BasicFloatMatrixMultiplication());
+        engines.put("parallelFloat", new ParallelFloatMatrixMultiplication());
+        engines.put("vectorizedFloat", new VectorizedFloatMatrixMultiplication());
+
+        System.out.printf("%-24s %8d %14d %14.3e %14.3e%n", "basicDouble", matrixSize,
+                3 * elements * Double.BYTES, 0.0, 0.0);
+        for (Map.Entry<String, FloatMatrixMultiplication> engine : engines.entrySet()) {
+            float[][] result = engine.getValue().multiply(floatA, floatB);
+            printError(engine.getKey(), matrixSize, 3 * elements * Float.BYTES, reference, result);
+        }
+
+        HalfMatrix halfA = HalfMatrix.fromArray(floatA);
+        HalfMatrix halfB = HalfMatrix.fromArray(floatB);
+        float[][] result = new HalfPrecisionMatrixMultiplication().multiply(halfA, halfB);
+        printError("halfPrecision", matrixSize, halfA.bytes() + halfB.bytes() + elements * Float.BYTES,
+                reference, result);
+
+        QuantizedMatrix quantizedA = QuantizedMatrix.quantize(matrixA);
+        QuantizedMatrix quantizedB = QuantizedMatrix.quantize(matrixB);
+        double[][] dequantized = new QuantizedMatrixAdapter(new VectorizedIntegerMatrixMultiplication())
+                .multiply(quantizedA, quantizedB);
+        printError("vectorizedInt8", matrixSize, quantizedA.bytes() + quantizedB.bytes() + elements * Integer.BYTES,
+                reference, FloatMatrixAdapter.toFloat(dequantized));
+    }
+
+    private static void printError(String engine, int matrixSize, long footprint, double[][] reference,
+                                   float[][] result) {
+        double maxAbsolute = 0.0;
+        double maxRelative = 0.0;
+        for (int i = 0; i < reference.length; i++) {
+            for (int j = 0; j < reference[i].length; j++) {
+                double error = Math.abs(reference[i][j] - result[i][j]);
+                maxAbsolute = Math.max(maxAbsolute, error);
+                maxRelative = Math.max(maxRelative, error / Math.max(Math.abs(reference[i][j]), Double.MIN_NORMAL));
+            }
+        }
+        System.out.printf("%-24s %8d %14d %14.3e %14.3e%n", engine, matrixSize, footprint, maxAbsolute, maxRelative);
+    }
+}
@@ -0,0 +1,275 @@
+package org.ulpgc.benchmarks;
+
+import com.sun.management.OperatingSystemMXBean;
+import com.sun.management.ThreadMXBean;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class ResourceSamplingProfiler implements InternalProfiler {
+    public static final String DEFAULT_DIR = "results/samples";
+    public static final long DEFAULT_INTERVAL_MS = 10;
+
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean osBean =
+            (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    private final int logicalCores = Runtime.getRuntime().availableProcessors();
+    private final Path directory;
+    private final long intervalNanos;
+
+    private Sampler sampler;
+    private int iteration;
+
+    public ResourceSamplingProfiler() {
+        this("");
+    }
+
+    public ResourceSamplingProfiler(String initLine) {
+        String dir = DEFAULT_DIR;
+        long intervalMs = DEFAULT_INTERVAL_MS;
+        for (String option : initLine.split(";")) {
+            if (option.isBlank()) {
+                continue;
+            }
+            String[] pair = option.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value, got: " + option);
+            }
+            switch (pair[0].trim()) {
+                case "dir" -> dir = pair[1].trim();
+                case "interval" -> intervalMs = Long.parseLong(pair[1].trim());
+                default -> throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be positive: " + intervalMs);
+        }
+        this.directory = Paths.get(dir);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                heapPools.add(pool);
+            }
+        }
+        if (threadBean.isThreadCpuTimeSupported()) {
+            threadBean.setThreadCpuTimeEnabled(true);
+        }
+        if (threadBean.isThreadAllocatedMemorySupported()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "Samples per-thread CPU time, per-thread allocation, heap and pool usage during measurement iterations";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        if (iterationParams.getType() != IterationType.MEASUREMENT) {
+            return;
+        }
+        iteration++;
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+        sampler = new Sampler();
+        sampler.start();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        if (sampler == null) {
+            return Collections.emptyList();
+        }
+        List<Sample> samples = sampler.finish();
+        sampler = null;
+
+        Sample last = samples.get(samples.size() - 1);
+        long ops = result.getMetadata() == null ? 0 : result.getMetadata().getMeasuredOps();
+        int maxActive = 0;
+        long peakHeap = 0;
+        for (Sample sample : samples) {
+            maxActive = Math.max(maxActive, sample.activeThreads());
+            peakHeap = Math.max(peakHeap, sample.heapUsed());
+        }
+
+        List<Result> results = new ArrayList<>();
+        results.add(new ScalarResult("cpu.process", utilization(last.processCpu(), last.elapsed()), "%",
+                AggregationPolicy.AVG));
+        results.add(new ScalarResult("cpu.threads", utilization(last.threadCpu(), last.elapsed()), "%",
+                AggregationPolicy.AVG));
+        results.add(new ScalarResult("threads.active.max", maxActive, "threads", AggregationPolicy.MAX));
+        results.add(new ScalarResult("heap.peak", peakHeap / MB, "MB", AggregationPolicy.MAX));
+        if (ops > 0) {
+            results.add(new ScalarResult("cpu.time.norm", last.threadCpu() / 1e6 / ops, "ms/op",
+                    AggregationPolicy.AVG));
+            results.add(new ScalarResult("alloc.threads.norm", (double) last.allocated() / ops, "B/op",
+                    AggregationPolicy.AVG));
+        }
+        for (MemoryPoolMXBean pool : heapPools) {
+            results.add(new ScalarResult("pool." + pool.getName() + ".peak", pool.getPeakUsage().getUsed() / MB, "MB",
+                    AggregationPolicy.MAX));
+        }
+
+        writeSamples(samplesFile(directory, benchmarkParams), samples, result);
+        return results;
+    }
+
+    public static Path samplesFile(Path directory, BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+        for (Object key : new TreeSet<>(params.getParamsKeys())) {
+            String value = params.getParam((String) key);
+            if (value != null && !value.isEmpty()) {
+                name.append('_').append(key).append('-').append(value);
+            }
+        }
+        return directory.resolve(name.toString().replaceAll("[^A-Za-z0-9._-]", "-") + ".csv");
+    }
+
+    private double utilization(long cpuNanos, long wallNanos) {
+        return wallNanos <= 0 ? 0.0 : Math.min(100.0, 100.0 * cpuNanos / ((double) wallNanos * logicalCores));
+    }
+
+    private void writeSamples(Path path, List<Sample> samples, IterationResult result) {
+        try {
+            Files.createDirectories(path.getParent());
+            boolean header = !Files.exists(path);
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)) {
+                if (header) {
+                    writer.write("Iteration;Iteration Score (" + result.getScoreUnit()
+                            + ");Elapsed (ms);Process CPU (%);Thread CPU (%);Active Threads;Allocated (MB);Heap Used (MB)");
+                    for (MemoryPoolMXBean pool : heapPools) {
+                        writer.write(";" + pool.getName() + " (MB)");
+                    }
+                    writer.newLine();
+                }
+                double score = result.getPrimaryResult().getScore();
+                for (int i = 1; i < samples.size(); i++) {
+                    Sample previous = samples.get(i - 1);
+                    Sample sample = samples.get(i);
+                    long wall = sample.elapsed() - previous.elapsed();
+                    writer.write(String.format(Locale.ROOT, "%d;%.6f;%.3f;%.2f;%.2f;%d;%.3f;%.3f",
+                            iteration,
+                            score,
+                            sample.elapsed() / 1e6,
+                            utilization(sample.processCpu() - previous.processCpu(), wall),
+                            utilization(sample.threadCpu() - previous.threadCpu(), wall),
+                            sample.activeThreads(),
+                            sample.allocated() / MB,
+                            sample.heapUsed() / MB));
+                    for (long used : sample.poolUsed()) {
+                        writer.write(String.format(Locale.ROOT, ";%.3f", used / MB));
+                    }
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write resource samples to " + path + ": " + e.getMessage());
+        }
+    }
+
+    private record Sample(long elapsed, long processCpu, long threadCpu, long allocated, int activeThreads,
+                          long heapUsed, long[] poolUsed) {
+    }
+
+    private class Sampler extends Thread {
+        private final List<Sample> samples = new ArrayList<>();
+        private final long startWall;
+        private final long startProcessCpu;
+        private Map<Long, long[]> lastSeen = new HashMap<>();
+        private long threadCpu;
+        private long allocated;
+        private volatile boolean running = true;
+
+        Sampler() {
+            super("resource-sampler");
+            setDaemon(true);
+            startWall = System.nanoTime();
+            startProcessCpu = osBean.getProcessCpuTime();
+            sample(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                LockSupport.parkNanos(intervalNanos);
+                sample(false);
+            }
+            sample(false);
+        }
+
+        List<Sample> finish() {
+            running = false;
+            LockSupport.unpark(this);
+            try {
+                join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return samples;
+        }
+
+        private void sample(boolean baseline) {
+            long now = System.nanoTime();
+            long[] ids = threadBean.getAllThreadIds();
+            long[] cpu = threadBean.getThreadCpuTime(ids);
+            long[] bytes = threadBean.getThreadAllocatedBytes(ids);
+
+            Map<Long, long[]> seen = new HashMap<>(ids.length * 2);
+            int active = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == threadId() || cpu[i] < 0) {
+                    continue;
+                }
+                long[] current = {cpu[i], Math.max(bytes[i], 0)};
+                seen.put(ids[i], current);
+                if (baseline) {
+                    continue;
+                }
+                long[] previous = lastSeen.getOrDefault(ids[i], new long[2]);
+                long cpuDelta = current[0] - previous[0];
+                threadCpu += cpuDelta;
+                allocated += current[1] - previous[1];
+                if (cpuDelta > 0) {
+                    active++;
+                }
+            }
+            lastSeen = seen;
+
+            long[] poolUsed = new long[heapPools.size()];
+            for (int i = 0; i < poolUsed.length; i++) {
+                poolUsed[i] = heapPools.get(i).getUsage().getUsed();
+            }
+            samples.add(new Sample(now - startWall, osBean.getProcessCpuTime() - startProcessCpu, threadCpu,
+                    allocated, active, memoryBean.getHeapMemoryUsage().getUsed(), poolUsed));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.ulpgc.matrix.parallel.splitk.ReductionStrategy;
+import org.ulpgc.matrix.parallel.splitk.SplitKMatrixMultiplication;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixThreads;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class SplitKBenchmark {
+
+    @State(Scope.Thread)
+    public static class TallKState {
+        @Param({"16", "64"})
+        public int outputSize;
+
+        @Param({"65536", "262144"})
+        public int commonSize;
+
+        @Param({"1", "2", "4", "8", "16"})
+        public int numThreads;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrixA = MatrixGenerator.generateMatrix(outputSize, commonSize);
+            matrixB = MatrixGenerator.generateMatrix(commonSize, outputSize);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ReductionState {
+        @Param({"STRIPED_LOCKS", "DOUBLE_ADDER", "CAS", "TREE"})
+        public ReductionStrategy reduction;
+    }
+
+    @Benchmark
+    public double[][] splitK(TallKState state, ReductionState reductionState) {
+        return new SplitKMatrixMultiplication(state.numThreads, reductionState.reduction)
+                .multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] rowPartitioned(TallKState state) {
+        return new ParallelMatrixThreads(state.numThreads).multiply(state.matrixA, state.matrixB);
+    }
+}
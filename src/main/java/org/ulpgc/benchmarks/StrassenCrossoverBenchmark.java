@@ -0,0 +1,103 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.ulpgc.matrix.blocked.BlockedMatrixMultiplication;
+import org.ulpgc.matrix.strassen.StrassenMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class StrassenCrossoverBenchmark {
+
+    @State(Scope.Thread)
+    public static class CrossoverState {
+        @Param({"256", "512", "1024", "2048", "4096", "8192"})
+        public int matrixSize;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+        public BlockedMatrixMultiplication blocked;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            blocked = new BlockedMatrixMultiplication();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CutoffState {
+        @Param({"64", "128", "256"})
+        public int cutoff;
+
+        @Param({"0", "1"})
+        public int parallelDepth;
+
+        public StrassenMatrixMultiplication strassen;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            strassen = new StrassenMatrixMultiplication(new BlockedMatrixMultiplication(), cutoff, parallelDepth);
+        }
+    }
+
+    @Benchmark
+    public double[][] blocked(CrossoverState state) {
+        return state.blocked.multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] strassen(CrossoverState state, CutoffState cutoffState) {
+        return cutoffState.strassen.multiply(state.matrixA, state.matrixB);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(StrassenCrossoverBenchmark.class.getSimpleName())
+                .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+
+        Map<Integer, Double> blockedTimes = new TreeMap<>();
+        Map<String, Map<Integer, Double>> strassenTimes = new TreeMap<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            int matrixSize = Integer.parseInt(result.getParams().getParam("matrixSize"));
+            double score = result.getPrimaryResult().getScore();
+
+            if (benchmark.endsWith(".blocked")) {
+                blockedTimes.put(matrixSize, score);
+            } else {
+                String variant = String.format("cutoff %3s, parallelDepth %s", result.getParams().getParam("cutoff"),
+                        result.getParams().getParam("parallelDepth"));
+                strassenTimes.computeIfAbsent(variant, key -> new TreeMap<>()).put(matrixSize, score);
+            }
+        }
+
+        for (Map.Entry<String, Map<Integer, Double>> entry : strassenTimes.entrySet()) {
+            Integer crossover = null;
+            for (Map.Entry<Integer, Double> timing : entry.getValue().entrySet()) {
+                Double blockedTime = blockedTimes.get(timing.getKey());
+                if (blockedTime != null && timing.getValue() < blockedTime) {
+                    crossover = timing.getKey();
+                    break;
+                }
+            }
+            System.out.println("Strassen (" + entry.getKey() + ") crossover vs blocked: "
+                    + (crossover == null ? "not reached" : crossover + "x" + crossover));
+        }
+    }
+}
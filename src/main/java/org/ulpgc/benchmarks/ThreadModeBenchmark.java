@@ -0,0 +1,65 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.ulpgc.matrix.parallel.TaskGranularity;
+import org.ulpgc.matrix.parallel.ThreadMode;
+import org.ulpgc.matrix.parallel.executors.ParallelMatrixExecutors;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixAtomic;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixTasks;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ThreadModeBenchmark {
+
+    @State(Scope.Thread)
+    public static class ThreadModeState {
+        @Param({"128", "512", "1024"})
+        public int matrixSize;
+
+        @Param({"PLATFORM", "VIRTUAL"})
+        public ThreadMode threadMode;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+        }
+    }
+
+    @Benchmark
+    public double[][] perRow(ThreadModeState state) {
+        return new ParallelMatrixTasks(state.threadMode, TaskGranularity.ROW).multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] perBlock(ThreadModeState state) {
+        return new ParallelMatrixTasks(state.threadMode, TaskGranularity.BLOCK).multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] perTile(ThreadModeState state) {
+        return new ParallelMatrixTasks(state.threadMode, TaskGranularity.TILE).multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] atomicPerRow(ThreadModeState state) {
+        return new ParallelMatrixAtomic(state.threadMode).multiply(state.matrixA, state.matrixB);
+    }
+
+    @Benchmark
+    public double[][] executorsPerBlock(ThreadModeState state) {
+        try (ParallelMatrixExecutors multiplication = new ParallelMatrixExecutors(
+                Runtime.getRuntime().availableProcessors(), state.threadMode)) {
+            return multiplication.multiply(state.matrixA, state.matrixB);
+        }
+    }
+}
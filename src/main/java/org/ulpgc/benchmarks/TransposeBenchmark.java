@@ -0,0 +1,76 @@
+package org.ulpgc.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.ulpgc.matrix.Transpose;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class TransposeBenchmark {
+
+    @State(Scope.Thread)
+    public static class TransposeState {
+        @Param({"256", "512", "1024"})
+        public int matrixSize;
+
+        @Param({"NONE", "TRANSPOSE"})
+        public Transpose transposeA;
+
+        @Param({"NONE", "TRANSPOSE"})
+        public Transpose transposeB;
+
+        public double[][] matrixA;
+        public double[][] matrixB;
+        public double[][] result;
+        public BasicMatrixMultiplication basic;
+        public VectorizedMatrixMultiplication vectorized;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matrixA = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            matrixB = MatrixGenerator.generateMatrix(matrixSize, matrixSize);
+            result = new double[matrixSize][matrixSize];
+            basic = new BasicMatrixMultiplication();
+            vectorized = new VectorizedMatrixMultiplication();
+        }
+    }
+
+    @Benchmark
+    public double[][] scalarFlags(TransposeState state) {
+        state.basic.multiplyInto(state.matrixA, state.transposeA, state.matrixB, state.transposeB,
+                state.result, 1.0, 0.0);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] vectorizedFlags(TransposeState state) {
+        state.vectorized.multiplyInto(state.matrixA, state.transposeA, state.matrixB, state.transposeB,
+                state.result, 1.0, 0.0);
+        return state.result;
+    }
+
+    @Benchmark
+    public double[][] vectorizedExplicitTranspose(TransposeState state) {
+        double[][] matrixA = state.transposeA == Transpose.TRANSPOSE ? transpose(state.matrixA) : state.matrixA;
+        double[][] matrixB = state.transposeB == Transpose.TRANSPOSE ? transpose(state.matrixB) : state.matrixB;
+        state.vectorized.multiplyInto(matrixA, matrixB, state.result, 1.0, 0.0);
+        return state.result;
+    }
+
+    private static double[][] transpose(double[][] matrix) {
+        double[][] transposed = new double[matrix[0].length][matrix.length];
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[0].length; j++) {
+                transposed[j][i] = matrix[i][j];
+            }
+        }
+        return transposed;
+    }
+}
@@ -53,12 +53,16 @@ public class CPUUsageChart {
                     double cpuUsage = Double.parseDouble(line[7].replace(",", "."));
 
                     String seriesKey;
-                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")) {
+                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")
+                            || implementation.equals("parallelVectorized") || implementation.equals("parallelExecutorsWarm")) {
                         seriesKey = implementation + " (Threads: " + threadsUsed + ")";
                     } else {
                         seriesKey = implementation;
                     }
 
+                    if (line.length > 13 && !line[13].trim().equals("SQUARE")) {
+                        seriesKey += " [" + line[13].trim() + "]";
+                    }
                     dataset.addValue(cpuUsage, seriesKey, Integer.toString(matrixSize));
                 } catch (NumberFormatException e) {
                     System.err.println("Error processing a line from the CSV file: " + String.join(";", line));
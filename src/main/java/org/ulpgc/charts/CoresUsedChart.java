@@ -49,7 +49,8 @@ public class CoresUsedChart {
                     int threadsUsed = Integer.parseInt(line[1].trim());
                     int coresUsed = Integer.parseInt(line[8].trim());
 
-                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")) {
+                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")
+                            || implementation.equals("parallelVectorized") || implementation.equals("parallelExecutorsWarm")) {
                         String seriesKey = implementation;
                         dataset.addValue(coresUsed, seriesKey, Integer.toString(threadsUsed));
                     }
@@ -50,8 +50,12 @@ public class EfficiencyChart {
                     int threadsUsed = Integer.parseInt(line[1].trim());
                     double efficiency = Double.parseDouble(line[5].replace(",", "."));
 
-                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")) {
+                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")
+                            || implementation.equals("parallelVectorized") || implementation.equals("parallelExecutorsWarm")) {
                         String seriesKey = implementation + " (Threads: " + threadsUsed + ")";
+                        if (line.length > 13 && !line[13].trim().equals("SQUARE")) {
+                            seriesKey += " [" + line[13].trim() + "]";
+                        }
                         dataset.addValue(efficiency, seriesKey, Integer.toString(matrixSize));
                     }
                 } catch (NumberFormatException e) {
@@ -51,12 +51,16 @@ public class ExecutionTimeChart {
                     double executionTime = Double.parseDouble(line[3].replace(",", "."));
 
                     String seriesKey;
-                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")) {
+                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")
+                            || implementation.equals("parallelVectorized") || implementation.equals("parallelExecutorsWarm")) {
                         seriesKey = implementation + " (Threads: " + threadsUsed + ")";
                     } else {
                         seriesKey = implementation;
                     }
 
+                    if (line.length > 13 && !line[13].trim().equals("SQUARE")) {
+                        seriesKey += " [" + line[13].trim() + "]";
+                    }
                     dataset.addValue(executionTime, seriesKey, Integer.toString(matrixSize));
                 } catch (NumberFormatException e) {
                     System.err.println("Error processing a line from the CSV file: " + String.join(";", line));
@@ -51,12 +51,16 @@ public class MemoryUsageChart {
                     double memoryUsed = Double.parseDouble(line[6].replace(",", "."));
 
                     String seriesKey;
-                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")) {
+                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")
+                            || implementation.equals("parallelVectorized") || implementation.equals("parallelExecutorsWarm")) {
                         seriesKey = implementation + " (Threads: " + threadsUsed + ")";
                     } else {
                         seriesKey = implementation;
                     }
 
+                    if (line.length > 13 && !line[13].trim().equals("SQUARE")) {
+                        seriesKey += " [" + line[13].trim() + "]";
+                    }
                     dataset.addValue(memoryUsed, seriesKey, Integer.toString(matrixSize));
                 } catch (NumberFormatException e) {
                     System.err.println("Error processing a line from the CSV file: " + String.join(";", line));
@@ -64,9 +68,9 @@ public class MemoryUsageChart {
             }
 
             JFreeChart chart = ChartFactory.createLineChart(
-                    "Memory Usage vs Matrix Size",
+                    "Memory Allocated per Operation vs Matrix Size",
                     "Matrix Size",
-                    "Memory Usage (MB)",
+                    "Memory Allocated (MB/op)",
                     dataset,
                     PlotOrientation.VERTICAL,
                     true,
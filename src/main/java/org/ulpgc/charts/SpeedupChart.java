@@ -51,12 +51,16 @@ public class SpeedupChart {
                     double speedup = Double.parseDouble(line[4].replace(",", "."));
 
                     String seriesKey;
-                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")) {
+                    if (implementation.equals("parallelExecutors") || implementation.equals("parallelThreads")
+                            || implementation.equals("parallelVectorized") || implementation.equals("parallelExecutorsWarm")) {
                         seriesKey = implementation + " (Threads: " + threadsUsed + ")";
                     } else {
                         seriesKey = implementation;
                     }
 
+                    if (line.length > 13 && !line[13].trim().equals("SQUARE")) {
+                        seriesKey += " [" + line[13].trim() + "]";
+                    }
                     dataset.addValue(speedup, seriesKey, Integer.toString(matrixSize));
 
                 } catch (NumberFormatException e) {
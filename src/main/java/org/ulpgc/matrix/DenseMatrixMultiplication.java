@@ -0,0 +1,13 @@
+package org.ulpgc.matrix;
+
+import org.ulpgc.matrix.dense.DenseMatrix;
+
+public interface DenseMatrixMultiplication {
+    void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result);
+
+    default DenseMatrix multiply(DenseMatrix matrixA, DenseMatrix matrixB) {
+        DenseMatrix result = new DenseMatrix(matrixA.rows(), matrixB.cols());
+        multiply(matrixA, matrixB, result);
+        return result;
+    }
+}
@@ -0,0 +1,5 @@
+package org.ulpgc.matrix;
+
+public interface FloatMatrixMultiplication {
+    float[][] multiply(float[][] matrixA, float[][] matrixB);
+}
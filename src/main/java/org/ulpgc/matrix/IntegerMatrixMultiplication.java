@@ -0,0 +1,5 @@
+package org.ulpgc.matrix;
+
+public interface IntegerMatrixMultiplication {
+    int[][] multiply(byte[][] matrixA, byte[][] matrixB);
+}
@@ -0,0 +1,62 @@
+package org.ulpgc.matrix;
+
+import java.util.Arrays;
+
+public final class MatrixAccumulation {
+    private MatrixAccumulation() {
+    }
+
+    public static void checkShapes(double[][] matrixA, double[][] matrixB, double[][] result) {
+        int common = matrixB.length;
+        int cols = common == 0 ? 0 : matrixB[0].length;
+        if (result.length != matrixA.length || (matrixA.length > 0 && matrixA[0].length != common)
+                || (result.length > 0 && result[0].length != cols)) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.length + "x"
+                    + (matrixA.length == 0 ? 0 : matrixA[0].length) + " * " + common + "x" + cols + " -> "
+                    + result.length + "x" + (result.length == 0 ? 0 : result[0].length));
+        }
+    }
+
+    public static void checkShapes(double[][] matrixA, Transpose transposeA, double[][] matrixB,
+                                   Transpose transposeB, double[][] result) {
+        int rows = transposeA.rows(matrixA);
+        int common = transposeA.cols(matrixA);
+        int cols = transposeB.cols(matrixB);
+        if (transposeB.rows(matrixB) != common || result.length != rows
+                || (result.length > 0 && result[0].length != cols)) {
+            throw new IllegalArgumentException("Incompatible shapes: " + rows + "x" + common + " * "
+                    + transposeB.rows(matrixB) + "x" + cols + " -> "
+                    + result.length + "x" + (result.length == 0 ? 0 : result[0].length));
+        }
+    }
+
+    public static double update(double alpha, double product, double beta, double current) {
+        return beta == 0.0 ? alpha * product : alpha * product + beta * current;
+    }
+
+    public static void scale(double[][] result, double beta) {
+        scaleRows(result, beta, 0, result.length);
+    }
+
+    public static void scaleRows(double[][] result, double beta, int rowStart, int rowEnd) {
+        if (beta == 1.0) {
+            return;
+        }
+        for (int i = rowStart; i < rowEnd; i++) {
+            scale(result[i], beta, 0, result[i].length);
+        }
+    }
+
+    public static void scale(double[] row, double beta, int start, int end) {
+        if (beta == 1.0) {
+            return;
+        }
+        if (beta == 0.0) {
+            Arrays.fill(row, start, end, 0.0);
+        } else {
+            for (int j = start; j < end; j++) {
+                row[j] *= beta;
+            }
+        }
+    }
+}
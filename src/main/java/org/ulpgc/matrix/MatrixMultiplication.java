@@ -2,4 +2,40 @@ package org.ulpgc.matrix;
 
 public interface MatrixMultiplication {
     double[][] multiply(double[][] matrixA, double[][] matrixB);
+
+    default void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        double[][] product = multiply(matrixA, matrixB);
+        for (int i = 0; i < result.length; i++) {
+            for (int j = 0; j < result[i].length; j++) {
+                result[i][j] = MatrixAccumulation.update(alpha, product[i][j], beta, result[i][j]);
+            }
+        }
+    }
+
+    default double[][] multiply(double[][] matrixA, Transpose transposeA, double[][] matrixB, Transpose transposeB) {
+        double[][] result = new double[transposeA.rows(matrixA)][transposeB.cols(matrixB)];
+        multiplyInto(matrixA, transposeA, matrixB, transposeB, result, 1.0, 0.0);
+        return result;
+    }
+
+    default void multiplyInto(double[][] matrixA, Transpose transposeA, double[][] matrixB, Transpose transposeB,
+                              double[][] result, double alpha, double beta) {
+        if (transposeA == Transpose.NONE && transposeB == Transpose.NONE) {
+            multiplyInto(matrixA, matrixB, result, alpha, beta);
+        } else {
+            TransposeKernels.multiplyInto(matrixA, transposeA, matrixB, transposeB, result, alpha, beta);
+        }
+    }
+
+    default double[][][] multiplyBatch(double[][][] matricesA, double[][][] matricesB) {
+        if (matricesA.length != matricesB.length) {
+            throw new IllegalArgumentException("Batch sizes differ: " + matricesA.length + " vs " + matricesB.length);
+        }
+        double[][][] results = new double[matricesA.length][][];
+        for (int i = 0; i < matricesA.length; i++) {
+            results[i] = multiply(matricesA[i], matricesB[i]);
+        }
+        return results;
+    }
 }
@@ -0,0 +1,11 @@
+package org.ulpgc.matrix;
+
+public interface MatrixVectorMultiplication {
+    double[] multiply(double[][] matrix, double[] vector);
+
+    double[] multiply(double[] vector, double[][] matrix);
+
+    void multiplyInto(double[][] matrix, double[] vector, double[] result, double alpha, double beta);
+
+    void multiplyInto(double[] vector, double[][] matrix, double[] result, double alpha, double beta);
+}
@@ -0,0 +1,20 @@
+package org.ulpgc.matrix;
+
+public enum Transpose {
+    NONE,
+    TRANSPOSE;
+
+    public int rows(double[][] matrix) {
+        if (this == NONE) {
+            return matrix.length;
+        }
+        return matrix.length == 0 ? 0 : matrix[0].length;
+    }
+
+    public int cols(double[][] matrix) {
+        if (this == TRANSPOSE) {
+            return matrix.length;
+        }
+        return matrix.length == 0 ? 0 : matrix[0].length;
+    }
+}
@@ -0,0 +1,121 @@
+package org.ulpgc.matrix;
+
+public final class TransposeKernels {
+    private TransposeKernels() {
+    }
+
+    public static void multiplyInto(double[][] matrixA, Transpose transposeA, double[][] matrixB, Transpose transposeB,
+                                    double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, transposeA, matrixB, transposeB, result);
+        MatrixAccumulation.scale(result, beta);
+        if (transposeA == Transpose.NONE && transposeB == Transpose.NONE) {
+            multiplyNN(matrixA, matrixB, result, alpha);
+        } else if (transposeA == Transpose.TRANSPOSE && transposeB == Transpose.NONE) {
+            multiplyTN(matrixA, matrixB, result, alpha);
+        } else if (transposeA == Transpose.NONE) {
+            multiplyNT(matrixA, matrixB, result, alpha);
+        } else {
+            multiplyTT(matrixA, matrixB, result, alpha);
+        }
+    }
+
+    private static void multiplyNN(double[][] matrixA, double[][] matrixB, double[][] result, double alpha) {
+        int common = matrixB.length;
+        for (int i = 0; i < result.length; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            for (int k = 0; k < common; k++) {
+                double value = alpha * rowA[k];
+                double[] rowB = matrixB[k];
+                for (int j = 0; j < rowC.length; j++) {
+                    rowC[j] += value * rowB[j];
+                }
+            }
+        }
+    }
+
+    private static void multiplyTN(double[][] matrixA, double[][] matrixB, double[][] result, double alpha) {
+        int common = matrixA.length;
+        for (int k = 0; k < common; k++) {
+            double[] rowA = matrixA[k];
+            double[] rowB = matrixB[k];
+            for (int i = 0; i < result.length; i++) {
+                double value = alpha * rowA[i];
+                double[] rowC = result[i];
+                for (int j = 0; j < rowC.length; j++) {
+                    rowC[j] += value * rowB[j];
+                }
+            }
+        }
+    }
+
+    private static void multiplyNT(double[][] matrixA, double[][] matrixB, double[][] result, double alpha) {
+        for (int i = 0; i < result.length; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            int j = 0;
+            for (; j + 4 <= rowC.length; j += 4) {
+                double[] rowB0 = matrixB[j];
+                double[] rowB1 = matrixB[j + 1];
+                double[] rowB2 = matrixB[j + 2];
+                double[] rowB3 = matrixB[j + 3];
+                double sum0 = 0;
+                double sum1 = 0;
+                double sum2 = 0;
+                double sum3 = 0;
+                for (int k = 0; k < rowA.length; k++) {
+                    double a = rowA[k];
+                    sum0 += a * rowB0[k];
+                    sum1 += a * rowB1[k];
+                    sum2 += a * rowB2[k];
+                    sum3 += a * rowB3[k];
+                }
+                rowC[j] += alpha * sum0;
+                rowC[j + 1] += alpha * sum1;
+                rowC[j + 2] += alpha * sum2;
+                rowC[j + 3] += alpha * sum3;
+            }
+            for (; j < rowC.length; j++) {
+                double[] rowB = matrixB[j];
+                double sum = 0;
+                for (int k = 0; k < rowA.length; k++) {
+                    sum += rowA[k] * rowB[k];
+                }
+                rowC[j] += alpha * sum;
+            }
+        }
+    }
+
+    private static void multiplyTT(double[][] matrixA, double[][] matrixB, double[][] result, double alpha) {
+        int common = matrixA.length;
+        int cols = matrixB.length;
+        int j = 0;
+        for (; j + 4 <= cols; j += 4) {
+            for (int k = 0; k < common; k++) {
+                double value0 = alpha * matrixB[j][k];
+                double value1 = alpha * matrixB[j + 1][k];
+                double value2 = alpha * matrixB[j + 2][k];
+                double value3 = alpha * matrixB[j + 3][k];
+                double[] rowA = matrixA[k];
+                for (int i = 0; i < result.length; i++) {
+                    double a = rowA[i];
+                    double[] rowC = result[i];
+                    rowC[j] += a * value0;
+                    rowC[j + 1] += a * value1;
+                    rowC[j + 2] += a * value2;
+                    rowC[j + 3] += a * value3;
+                }
+            }
+        }
+        for (; j < cols; j++) {
+            double[] rowB = matrixB[j];
+            for (int k = 0; k < common; k++) {
+                double value = alpha * rowB[k];
+                double[] rowA = matrixA[k];
+                for (int i = 0; i < result.length; i++) {
+                    result[i][j] += rowA[i] * value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.ulpgc.matrix.adaptive;
+
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.parallel.executors.ParallelMatrixExecutors;
+import org.ulpgc.matrix.parallel.streams.ParallelMatrixStreams;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixThreads;
+import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AdaptiveMatrixMultiplication implements MatrixMultiplication, AutoCloseable {
+    public static final int EXPLORATION_INTERVAL = 16;
+    public static final double EXPLORATION_MARGIN = 1.5;
+
+    private final Map<String, MatrixMultiplication> engines;
+    private final DispatchProfile profile;
+    private final Path profilePath;
+    private final Map<ShapeBucket, Long> calls = new ConcurrentHashMap<>();
+
+    public AdaptiveMatrixMultiplication() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public AdaptiveMatrixMultiplication(int numThreads) {
+        this(defaultEngines(numThreads), Paths.get(DispatchCalibrator.DEFAULT_PATH));
+    }
+
+    public AdaptiveMatrixMultiplication(Map<String, MatrixMultiplication> engines, Path profilePath) {
+        this(engines, DispatchCalibrator.loadOrCalibrate(profilePath, engines), profilePath);
+    }
+
+    public AdaptiveMatrixMultiplication(Map<String, MatrixMultiplication> engines, DispatchProfile profile,
+                                        Path profilePath) {
+        if (engines.isEmpty()) {
+            throw new IllegalArgumentException("At least one engine is required");
+        }
+        this.engines = new LinkedHashMap<>(engines);
+        this.profile = profile;
+        this.profilePath = profilePath;
+    }
+
+    public static Map<String, MatrixMultiplication> defaultEngines(int numThreads) {
+        Map<String, MatrixMultiplication> engines = new LinkedHashMap<>();
+        engines.put("basic", new BasicMatrixMultiplication());
+        engines.put("vectorized", new VectorizedMatrixMultiplication());
+        engines.put("streams", new ParallelMatrixStreams());
+        engines.put("executors", new ParallelMatrixExecutors(numThreads));
+        engines.put("threads", new ParallelMatrixThreads(numThreads));
+        return engines;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        double[][] result = new double[rows][cols];
+
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        ShapeBucket bucket = ShapeBucket.of(matrixA.length, matrixB[0].length, matrixB.length);
+        String engine = choose(bucket);
+
+        long start = System.nanoTime();
+        engines.get(engine).multiplyInto(matrixA, matrixB, result, alpha, beta);
+        profile.record(bucket, engine, System.nanoTime() - start);
+    }
+
+    public String engineFor(int rows, int cols, int common) {
+        return fastest(profile.estimates(ShapeBucket.of(rows, cols, common)));
+    }
+
+    public DispatchProfile profile() {
+        return profile;
+    }
+
+    @Override
+    public void close() {
+        if (profilePath != null) {
+            DispatchCalibrator.save(profile, profilePath);
+        }
+        closeEngines(engines.values());
+    }
+
+    static void closeEngines(Collection<MatrixMultiplication> engines) {
+        for (MatrixMultiplication engine : engines) {
+            if (engine instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Could not close engine " + engine, e);
+                }
+            }
+        }
+    }
+
+    private String choose(ShapeBucket bucket) {
+        Map<String, Double> estimates = profile.estimates(bucket);
+        String fastest = fastest(estimates);
+        if (calls.merge(bucket, 1L, Long::sum) % EXPLORATION_INTERVAL != 0) {
+            return fastest;
+        }
+
+        double limit = EXPLORATION_MARGIN * estimates.getOrDefault(fastest, Double.MAX_VALUE);
+        String explored = fastest;
+        long fewestSamples = Long.MAX_VALUE;
+        for (String engine : engines.keySet()) {
+            long samples = profile.samples(bucket, engine);
+            if (!engine.equals(fastest) && estimates.getOrDefault(engine, 0.0) <= limit && samples < fewestSamples) {
+                explored = engine;
+                fewestSamples = samples;
+            }
+        }
+        return explored;
+    }
+
+    private String fastest(Map<String, Double> estimates) {
+        String fastest = engines.keySet().iterator().next();
+        double fastestTime = Double.MAX_VALUE;
+        for (String engine : engines.keySet()) {
+            Double time = estimates.get(engine);
+            if (time != null && time < fastestTime) {
+                fastest = engine;
+                fastestTime = time;
+            }
+        }
+        return fastest;
+    }
+}
@@ -0,0 +1,187 @@
+package org.ulpgc.matrix.adaptive;
+
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+
+public class DispatchCalibrator {
+    public static final String DEFAULT_PATH = "results/dispatch_profile.properties";
+
+    private static final int[][] SHAPES = {
+            {32, 32, 32}, {64, 64, 64}, {128, 128, 128}, {256, 256, 256}, {512, 512, 512},
+            {16, 512, 512}, {512, 512, 16}
+    };
+    private static final int[][] WARMUP_SHAPES = {{64, 64, 64}, {16, 64, 64}, {64, 64, 16}, {61, 47, 53}};
+    private static final long WARMUP_WINDOW_NANOS = 100_000_000L;
+    private static final int MAX_WARMUP_WINDOWS = 30;
+    private static final int STABLE_WARMUP_WINDOWS = 3;
+    private static final double WARMUP_TOLERANCE = 0.9;
+    private static final int REPETITIONS = 3;
+    private static final long MEASURE_BUDGET_NANOS = 200_000_000L;
+    private static final double PRUNE_FACTOR = 4.0;
+    private static final String KEY_PREFIX = "bucket.";
+
+    public static void main(String[] args) {
+        Path path = Paths.get(args.length > 0 ? args[0] : DEFAULT_PATH);
+        Map<String, MatrixMultiplication> engines =
+                AdaptiveMatrixMultiplication.defaultEngines(Runtime.getRuntime().availableProcessors());
+        try {
+            DispatchProfile profile = calibrate(engines);
+            save(profile, path);
+            for (ShapeBucket bucket : profile.buckets()) {
+                System.out.println(bucket.key() + " -> " + profile.estimates(bucket));
+            }
+            System.out.println("Dispatch profile saved to: " + path);
+        } finally {
+            AdaptiveMatrixMultiplication.closeEngines(engines.values());
+        }
+    }
+
+    public static DispatchProfile loadOrCalibrate(Path path, Map<String, MatrixMultiplication> engines) {
+        DispatchProfile profile = load(path);
+        if (profile == null || !profile.covers(engines.keySet())) {
+            profile = calibrate(engines);
+            save(profile, path);
+        }
+        return profile;
+    }
+
+    public static DispatchProfile calibrate(Map<String, MatrixMultiplication> engines) {
+        double[][][][] warmup = new double[WARMUP_SHAPES.length][][][];
+        for (int s = 0; s < WARMUP_SHAPES.length; s++) {
+            int[] shape = WARMUP_SHAPES[s];
+            warmup[s] = new double[][][]{
+                    MatrixGenerator.generateMatrix(shape[0], shape[2]),
+                    MatrixGenerator.generateMatrix(shape[2], shape[1]),
+                    new double[shape[0]][shape[1]]};
+        }
+        for (MatrixMultiplication engine : engines.values()) {
+            warmUp(engine, warmup);
+        }
+
+        DispatchProfile profile = new DispatchProfile();
+        for (int[] shape : SHAPES) {
+            ShapeBucket bucket = ShapeBucket.of(shape[0], shape[1], shape[2]);
+            double[][] a = MatrixGenerator.generateMatrix(shape[0], shape[2]);
+            double[][] b = MatrixGenerator.generateMatrix(shape[2], shape[1]);
+            double[][] result = new double[shape[0]][shape[1]];
+
+            long bestTime = Long.MAX_VALUE;
+            for (Map.Entry<String, MatrixMultiplication> engine : engines.entrySet()) {
+                long time = measure(engine.getValue(), a, b, result, bestTime);
+                profile.put(bucket, engine.getKey(), time, 1);
+                bestTime = Math.min(bestTime, time);
+            }
+        }
+        return profile;
+    }
+
+    public static DispatchProfile load(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (!hostKey().equals(properties.getProperty("host"))) {
+            return null;
+        }
+
+        DispatchProfile profile = new DispatchProfile();
+        try {
+            for (String key : properties.stringPropertyNames()) {
+                if (!key.startsWith(KEY_PREFIX)) {
+                    continue;
+                }
+                String[] parts = key.substring(KEY_PREFIX.length()).split("\\.", 2);
+                String[] value = properties.getProperty(key).split(",");
+                profile.put(ShapeBucket.parse(parts[0]), parts[1], Double.parseDouble(value[0]),
+                        Long.parseLong(value[1]));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+        return profile;
+    }
+
+    public static void save(DispatchProfile profile, Path path) {
+        Properties properties = new Properties();
+        properties.setProperty("host", hostKey());
+        for (ShapeBucket bucket : profile.buckets()) {
+            for (Map.Entry<String, Double> estimate : profile.estimates(bucket).entrySet()) {
+                properties.setProperty(KEY_PREFIX + bucket.key() + "." + estimate.getKey(),
+                        Math.round(estimate.getValue()) + "," + profile.samples(bucket, estimate.getKey()));
+            }
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(path)) {
+                properties.store(output, "Nanoseconds per call and sample count for AdaptiveMatrixMultiplication");
+            }
+        } catch (IOException e) {
+            System.err.println("Could not persist dispatch profile to " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static String hostKey() {
+        return System.getProperty("os.arch") + "-" + Runtime.getRuntime().availableProcessors();
+    }
+
+    private static void warmUp(MatrixMultiplication engine, double[][][][] operands) {
+        long previousBest = Long.MAX_VALUE;
+        int stableWindows = 0;
+        for (int window = 0; window < MAX_WARMUP_WINDOWS && stableWindows < STABLE_WARMUP_WINDOWS; window++) {
+            long best = Long.MAX_VALUE;
+            long windowStart = System.nanoTime();
+            while (System.nanoTime() - windowStart < WARMUP_WINDOW_NANOS) {
+                long start = System.nanoTime();
+                for (double[][][] operand : operands) {
+                    engine.multiplyInto(operand[0], operand[1], operand[2], 1.0, 0.0);
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            if (best < WARMUP_TOLERANCE * previousBest) {
+                previousBest = best;
+                stableWindows = 0;
+            } else {
+                stableWindows++;
+            }
+        }
+    }
+
+    private static long measure(MatrixMultiplication engine, double[][] a, double[][] b, double[][] result,
+                                long bestTime) {
+        long start = System.nanoTime();
+        engine.multiplyInto(a, b, result, 1.0, 0.0);
+        long time = System.nanoTime() - start;
+        if (time > PRUNE_FACTOR * bestTime) {
+            return time;
+        }
+
+        long spent = time;
+        for (int i = 0; i < REPETITIONS && spent < MEASURE_BUDGET_NANOS; i++) {
+            start = System.nanoTime();
+            engine.multiplyInto(a, b, result, 1.0, 0.0);
+            long elapsed = System.nanoTime() - start;
+            time = Math.min(time, elapsed);
+            spent += elapsed;
+        }
+        return time;
+    }
+}
@@ -0,0 +1,99 @@
+package org.ulpgc.matrix.adaptive;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class DispatchProfile {
+    public static final double DEFAULT_SMOOTHING = 0.25;
+
+    private final Map<ShapeBucket, Map<String, Estimate>> table = new HashMap<>();
+    private final double smoothing;
+
+    public DispatchProfile() {
+        this(DEFAULT_SMOOTHING);
+    }
+
+    public DispatchProfile(double smoothing) {
+        if (smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1]: " + smoothing);
+        }
+        this.smoothing = smoothing;
+    }
+
+    public synchronized Map<String, Double> estimates(ShapeBucket bucket) {
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        Map<String, Estimate> row = table.get(bucket);
+        if (row != null) {
+            row.forEach((engine, estimate) -> estimates.put(engine, estimate.nanos));
+            return estimates;
+        }
+
+        ShapeBucket nearest = nearest(bucket);
+        if (nearest != null) {
+            double ratio = bucket.workRatio(nearest);
+            table.get(nearest).forEach((engine, estimate) -> estimates.put(engine, estimate.nanos * ratio));
+        }
+        return estimates;
+    }
+
+    public synchronized long samples(ShapeBucket bucket, String engine) {
+        Map<String, Estimate> row = table.get(bucket);
+        Estimate estimate = row == null ? null : row.get(engine);
+        return estimate == null ? 0 : estimate.samples;
+    }
+
+    public synchronized void record(ShapeBucket bucket, String engine, long nanos) {
+        Map<String, Estimate> row = table.get(bucket);
+        if (row == null) {
+            row = new LinkedHashMap<>();
+            for (Map.Entry<String, Double> prior : estimates(bucket).entrySet()) {
+                row.put(prior.getKey(), new Estimate(prior.getValue(), 0));
+            }
+            table.put(bucket, row);
+        }
+
+        Estimate estimate = row.computeIfAbsent(engine, name -> new Estimate(nanos, 0));
+        estimate.nanos = estimate.samples == 0 ? nanos : estimate.nanos + smoothing * (nanos - estimate.nanos);
+        estimate.samples++;
+    }
+
+    public synchronized void put(ShapeBucket bucket, String engine, double nanos, long samples) {
+        table.computeIfAbsent(bucket, key -> new LinkedHashMap<>()).put(engine, new Estimate(nanos, samples));
+    }
+
+    public synchronized boolean covers(Set<String> engines) {
+        return !table.isEmpty() && table.values().stream().allMatch(row -> row.keySet().containsAll(engines));
+    }
+
+    public synchronized Set<ShapeBucket> buckets() {
+        Set<ShapeBucket> buckets = new TreeSet<>(Comparator.comparing(ShapeBucket::key));
+        buckets.addAll(table.keySet());
+        return buckets;
+    }
+
+    private ShapeBucket nearest(ShapeBucket bucket) {
+        ShapeBucket nearest = null;
+        for (ShapeBucket candidate : table.keySet()) {
+            if (nearest == null || candidate.distance(bucket) < nearest.distance(bucket)
+                    || (candidate.distance(bucket) == nearest.distance(bucket)
+                    && candidate.key().compareTo(nearest.key()) < 0)) {
+                nearest = candidate;
+            }
+        }
+        return nearest;
+    }
+
+    private static final class Estimate {
+        private double nanos;
+        private long samples;
+
+        private Estimate(double nanos, long samples) {
+            this.nanos = nanos;
+            this.samples = samples;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.ulpgc.matrix.adaptive;
+
+public record ShapeBucket(int rowsLog, int colsLog, int commonLog) {
+
+    public static ShapeBucket of(int rows, int cols, int common) {
+        return new ShapeBucket(log2(rows), log2(cols), log2(common));
+    }
+
+    public static ShapeBucket parse(String key) {
+        String[] parts = key.split("x");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid shape bucket: " + key);
+        }
+        return new ShapeBucket(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+    }
+
+    public int distance(ShapeBucket other) {
+        return Math.abs(rowsLog - other.rowsLog) + Math.abs(colsLog - other.colsLog)
+                + Math.abs(commonLog - other.commonLog);
+    }
+
+    public double workRatio(ShapeBucket other) {
+        return Math.scalb(1.0, rowsLog + colsLog + commonLog - other.rowsLog - other.colsLog - other.commonLog);
+    }
+
+    public String key() {
+        return rowsLog + "x" + colsLog + "x" + commonLog;
+    }
+
+    private static int log2(int value) {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, value));
+    }
+}
@@ -1,5 +1,6 @@
 package org.ulpgc.matrix.basic;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
 
 public class BasicMatrixMultiplication implements MatrixMultiplication {
@@ -7,17 +8,27 @@ public class BasicMatrixMultiplication implements MatrixMultiplication {
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int common = matrixB.length;
 
         double[][] result = new double[rows][cols];
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
 
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
+                double sum = 0;
                 for (int k = 0; k < common; k++) {
-                    result[i][j] += matrixA[i][k] * matrixB[k][j];
+                    sum += matrixA[i][k] * matrixB[k][j];
                 }
+                result[i][j] = MatrixAccumulation.update(alpha, sum, beta, result[i][j]);
             }
         }
-        return result;
     }
 }
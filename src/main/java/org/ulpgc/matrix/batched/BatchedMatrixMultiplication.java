@@ -0,0 +1,337 @@
+package org.ulpgc.matrix.batched;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class BatchedMatrixMultiplication implements MatrixMultiplication, AutoCloseable {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final long MIN_TASK_FLOPS = 1L << 18;
+    private static final ThreadLocal<double[][]> TAIL_TILES = ThreadLocal.withInitial(() -> new double[1][0]);
+
+    private final int numThreads;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    public BatchedMatrixMultiplication() {
+        this(1);
+    }
+
+    public BatchedMatrixMultiplication(int numThreads) {
+        this(numThreads == 1 ? null : ThreadMode.PLATFORM.newExecutor(numThreads), numThreads, numThreads != 1);
+    }
+
+    public BatchedMatrixMultiplication(ExecutorService executor, int numThreads) {
+        this(executor, numThreads, false);
+    }
+
+    private BatchedMatrixMultiplication(ExecutorService executor, int numThreads, boolean ownsExecutor) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        }
+        this.executor = executor;
+        this.numThreads = numThreads;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        return multiplyBatch(new double[][][]{matrixA}, new double[][][]{matrixB})[0];
+    }
+
+    @Override
+    public double[][][] multiplyBatch(double[][][] matricesA, double[][][] matricesB) {
+        if (matricesA.length != matricesB.length) {
+            throw new IllegalArgumentException("Batch sizes differ: " + matricesA.length + " vs " + matricesB.length);
+        }
+        int batch = matricesA.length;
+        if (batch == 0) {
+            return new double[0][][];
+        }
+        int rows = matricesA[0].length;
+        int common = matricesB[0].length;
+        int cols = matricesB[0][0].length;
+        for (int m = 0; m < batch; m++) {
+            if (matricesA[m].length != rows || matricesA[m][0].length != common
+                    || matricesB[m].length != common || matricesB[m][0].length != cols) {
+                throw new IllegalArgumentException("Matrix " + m + " does not match the batch shape "
+                        + rows + "x" + common + " * " + common + "x" + cols);
+            }
+        }
+
+        if (cols < LANES && batch >= InterleavedBatch.LANES) {
+            InterleavedBatch result = new InterleavedBatch(batch, rows, cols);
+            multiply(InterleavedBatch.fromArrays(matricesA), InterleavedBatch.fromArrays(matricesB), result);
+            return result.toArrays();
+        }
+
+        double[][][] results = new double[batch][rows][cols];
+        runChunks(batch, 2L * rows * common * cols, (start, end) -> {
+            for (int m = start; m < end; m++) {
+                multiplyArrays(matricesA[m], matricesB[m], results[m]);
+            }
+        });
+        return results;
+    }
+
+    public void multiplyBatch(double[] matricesA, int offsetA, int strideA,
+                              double[] matricesB, int offsetB, int strideB,
+                              double[] results, int offsetC, int strideC,
+                              int batch, int rows, int common, int cols) {
+        checkStrided("A", matricesA, offsetA, strideA, batch, rows * common);
+        checkStrided("B", matricesB, offsetB, strideB, batch, common * cols);
+        checkStrided("C", results, offsetC, strideC, batch, rows * cols);
+
+        runChunks(batch, 2L * rows * common * cols, (start, end) -> {
+            for (int m = start; m < end; m++) {
+                multiplyFlat(matricesA, offsetA + m * strideA, matricesB, offsetB + m * strideB,
+                        results, offsetC + m * strideC, rows, common, cols);
+            }
+        });
+    }
+
+    public void multiply(InterleavedBatch matricesA, InterleavedBatch matricesB, InterleavedBatch results) {
+        if (matricesA.batch() != matricesB.batch() || matricesA.batch() != results.batch()
+                || matricesA.cols() != matricesB.rows() || results.rows() != matricesA.rows()
+                || results.cols() != matricesB.cols()) {
+            throw new IllegalArgumentException("Incompatible interleaved batches");
+        }
+
+        int rows = matricesA.rows();
+        int common = matricesA.cols();
+        int cols = matricesB.cols();
+        runChunks(results.groups(), 2L * InterleavedBatch.LANES * rows * common * cols, (start, end) -> {
+            for (int group = start; group < end; group++) {
+                multiplyInterleaved(matricesA, matricesB, results, group, rows, common, cols);
+            }
+        });
+    }
+
+    private static void multiplyArrays(double[][] matrixA, double[][] matrixB, double[][] result) {
+        int rows = result.length;
+        int cols = result[0].length;
+        int common = matrixB.length;
+        int bound = cols >= LANES ? cols : SPECIES.loopBound(cols);
+        int last = cols - LANES;
+        int i = 0;
+        for (; i + 4 <= rows; i += 4) {
+            double[] rowA0 = matrixA[i];
+            double[] rowA1 = matrixA[i + 1];
+            double[] rowA2 = matrixA[i + 2];
+            double[] rowA3 = matrixA[i + 3];
+            for (int step = 0; step < bound; step += LANES) {
+                int j = Math.min(step, last);
+                DoubleVector acc0 = DoubleVector.zero(SPECIES);
+                DoubleVector acc1 = DoubleVector.zero(SPECIES);
+                DoubleVector acc2 = DoubleVector.zero(SPECIES);
+                DoubleVector acc3 = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    DoubleVector valueB = DoubleVector.fromArray(SPECIES, matrixB[k], j);
+                    acc0 = DoubleVector.broadcast(SPECIES, rowA0[k]).fma(valueB, acc0);
+                    acc1 = DoubleVector.broadcast(SPECIES, rowA1[k]).fma(valueB, acc1);
+                    acc2 = DoubleVector.broadcast(SPECIES, rowA2[k]).fma(valueB, acc2);
+                    acc3 = DoubleVector.broadcast(SPECIES, rowA3[k]).fma(valueB, acc3);
+                }
+                acc0.intoArray(result[i], j);
+                acc1.intoArray(result[i + 1], j);
+                acc2.intoArray(result[i + 2], j);
+                acc3.intoArray(result[i + 3], j);
+            }
+        }
+        for (; i < rows; i++) {
+            double[] rowA = matrixA[i];
+            for (int step = 0; step < bound; step += LANES) {
+                int j = Math.min(step, last);
+                DoubleVector acc = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    acc = DoubleVector.broadcast(SPECIES, rowA[k]).fma(DoubleVector.fromArray(SPECIES, matrixB[k], j), acc);
+                }
+                acc.intoArray(result[i], j);
+            }
+        }
+
+        if (bound < cols) {
+            int width = cols - bound;
+            double[] tile = tailTile(common, 1);
+            for (int k = 0; k < common; k++) {
+                padTail(matrixB[k], bound, width, tile, k * LANES);
+            }
+            int output = common * LANES;
+            for (i = 0; i < rows; i++) {
+                double[] rowA = matrixA[i];
+                DoubleVector acc = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    acc = DoubleVector.broadcast(SPECIES, rowA[k]).fma(DoubleVector.fromArray(SPECIES, tile, k * LANES), acc);
+                }
+                acc.intoArray(tile, output);
+                System.arraycopy(tile, output, result[i], bound, width);
+            }
+        }
+    }
+
+    private static void multiplyFlat(double[] a, int offsetA, double[] b, int offsetB, double[] c, int offsetC,
+                                     int rows, int common, int cols) {
+        int bound = cols >= LANES ? cols : SPECIES.loopBound(cols);
+        int last = cols - LANES;
+        int i = 0;
+        for (; i + 4 <= rows; i += 4) {
+            int rowA = offsetA + i * common;
+            int rowC = offsetC + i * cols;
+            for (int step = 0; step < bound; step += LANES) {
+                int j = Math.min(step, last);
+                DoubleVector acc0 = DoubleVector.zero(SPECIES);
+                DoubleVector acc1 = DoubleVector.zero(SPECIES);
+                DoubleVector acc2 = DoubleVector.zero(SPECIES);
+                DoubleVector acc3 = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    DoubleVector valueB = DoubleVector.fromArray(SPECIES, b, offsetB + k * cols + j);
+                    acc0 = DoubleVector.broadcast(SPECIES, a[rowA + k]).fma(valueB, acc0);
+                    acc1 = DoubleVector.broadcast(SPECIES, a[rowA + common + k]).fma(valueB, acc1);
+                    acc2 = DoubleVector.broadcast(SPECIES, a[rowA + 2 * common + k]).fma(valueB, acc2);
+                    acc3 = DoubleVector.broadcast(SPECIES, a[rowA + 3 * common + k]).fma(valueB, acc3);
+                }
+                acc0.intoArray(c, rowC + j);
+                acc1.intoArray(c, rowC + cols + j);
+                acc2.intoArray(c, rowC + 2 * cols + j);
+                acc3.intoArray(c, rowC + 3 * cols + j);
+            }
+        }
+        for (; i < rows; i++) {
+            int rowA = offsetA + i * common;
+            int rowC = offsetC + i * cols;
+            for (int step = 0; step < bound; step += LANES) {
+                int j = Math.min(step, last);
+                DoubleVector acc = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    acc = DoubleVector.broadcast(SPECIES, a[rowA + k])
+                            .fma(DoubleVector.fromArray(SPECIES, b, offsetB + k * cols + j), acc);
+                }
+                acc.intoArray(c, rowC + j);
+            }
+        }
+
+        if (bound < cols) {
+            int width = cols - bound;
+            double[] tile = tailTile(common, rows);
+            for (int k = 0; k < common; k++) {
+                padTail(b, offsetB + k * cols + bound, width, tile, k * LANES);
+            }
+            int output = common * LANES;
+            multiplyFlat(a, offsetA, tile, 0, tile, output, rows, common, LANES);
+            for (i = 0; i < rows; i++) {
+                System.arraycopy(tile, output + i * LANES, c, offsetC + i * cols + bound, width);
+            }
+        }
+    }
+
+    private static double[] tailTile(int common, int rows) {
+        double[][] tiles = TAIL_TILES.get();
+        int length = (common + rows) * LANES;
+        if (tiles[0].length < length) {
+            tiles[0] = new double[length];
+        }
+        return tiles[0];
+    }
+
+    private static void padTail(double[] source, int offset, int width, double[] tile, int index) {
+        System.arraycopy(source, offset, tile, index, width);
+        for (int t = width; t < LANES; t++) {
+            tile[index + t] = 0.0;
+        }
+    }
+
+    private static void multiplyInterleaved(InterleavedBatch matricesA, InterleavedBatch matricesB,
+                                            InterleavedBatch results, int group, int rows, int common, int cols) {
+        double[] a = matricesA.data();
+        double[] b = matricesB.data();
+        double[] c = results.data();
+        int lanes = InterleavedBatch.LANES;
+        for (int i = 0; i < rows; i++) {
+            int j = 0;
+            for (; j + 4 <= cols; j += 4) {
+                DoubleVector acc0 = DoubleVector.zero(SPECIES);
+                DoubleVector acc1 = DoubleVector.zero(SPECIES);
+                DoubleVector acc2 = DoubleVector.zero(SPECIES);
+                DoubleVector acc3 = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    DoubleVector valueA = DoubleVector.fromArray(SPECIES, a, matricesA.index(group, i, k));
+                    int rowB = matricesB.index(group, k, j);
+                    acc0 = valueA.fma(DoubleVector.fromArray(SPECIES, b, rowB), acc0);
+                    acc1 = valueA.fma(DoubleVector.fromArray(SPECIES, b, rowB + lanes), acc1);
+                    acc2 = valueA.fma(DoubleVector.fromArray(SPECIES, b, rowB + 2 * lanes), acc2);
+                    acc3 = valueA.fma(DoubleVector.fromArray(SPECIES, b, rowB + 3 * lanes), acc3);
+                }
+                int rowC = results.index(group, i, j);
+                acc0.intoArray(c, rowC);
+                acc1.intoArray(c, rowC + lanes);
+                acc2.intoArray(c, rowC + 2 * lanes);
+                acc3.intoArray(c, rowC + 3 * lanes);
+            }
+            for (; j < cols; j++) {
+                DoubleVector acc = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    DoubleVector valueA = DoubleVector.fromArray(SPECIES, a, matricesA.index(group, i, k));
+                    DoubleVector valueB = DoubleVector.fromArray(SPECIES, b, matricesB.index(group, k, j));
+                    acc = valueA.fma(valueB, acc);
+                }
+                acc.intoArray(c, results.index(group, i, j));
+            }
+        }
+    }
+
+    private interface RangeTask {
+        void run(int start, int end);
+    }
+
+    private void runChunks(int items, long flopsPerItem, RangeTask task) {
+        long totalFlops = items * flopsPerItem;
+        int chunks = (int) Math.min(Math.min(numThreads, items), Math.max(1, totalFlops / MIN_TASK_FLOPS));
+        if (chunks <= 1 || executor == null) {
+            task.run(0, items);
+            return;
+        }
+
+        int chunkSize = (items + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int start = chunkSize; start < items; start += chunkSize) {
+            final int chunkStart = start;
+            final int chunkEnd = Math.min(start + chunkSize, items);
+            futures.add(executor.submit(() -> task.run(chunkStart, chunkEnd)));
+        }
+        task.run(0, Math.min(chunkSize, items));
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch chunks", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch chunk failed", e.getCause());
+        }
+    }
+
+    private static void checkStrided(String name, double[] buffer, int offset, int stride, int batch, int size) {
+        if (batch < 0 || offset < 0 || (batch > 1 && stride < size)
+                || (batch > 0 && offset + (long) (batch - 1) * stride + size > buffer.length)) {
+            throw new IllegalArgumentException("Strided batch " + name + " (offset " + offset + ", stride " + stride
+                    + ", " + batch + " matrices of " + size + " elements) does not fit a buffer of " + buffer.length);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.ulpgc.matrix.batched;
+
+import jdk.incubator.vector.DoubleVector;
+
+public final class InterleavedBatch {
+    public static final int LANES = DoubleVector.SPECIES_PREFERRED.length();
+
+    private final double[] data;
+    private final int batch;
+    private final int rows;
+    private final int cols;
+
+    public InterleavedBatch(int batch, int rows, int cols) {
+        this.batch = batch;
+        this.rows = rows;
+        this.cols = cols;
+        this.data = new double[Math.multiplyExact(groups() * LANES, Math.multiplyExact(rows, cols))];
+    }
+
+    public static InterleavedBatch fromArrays(double[][][] matrices) {
+        int rows = matrices.length == 0 ? 0 : matrices[0].length;
+        int cols = rows == 0 ? 0 : matrices[0][0].length;
+        InterleavedBatch batch = new InterleavedBatch(matrices.length, rows, cols);
+        for (int m = 0; m < matrices.length; m++) {
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    batch.data[batch.index(m / LANES, i, j) + m % LANES] = matrices[m][i][j];
+                }
+            }
+        }
+        return batch;
+    }
+
+    public double[][][] toArrays() {
+        double[][][] matrices = new double[batch][rows][cols];
+        for (int m = 0; m < batch; m++) {
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    matrices[m][i][j] = data[index(m / LANES, i, j) + m % LANES];
+                }
+            }
+        }
+        return matrices;
+    }
+
+    public double get(int matrix, int row, int col) {
+        return data[index(matrix / LANES, row, col) + matrix % LANES];
+    }
+
+    public void set(int matrix, int row, int col, double value) {
+        data[index(matrix / LANES, row, col) + matrix % LANES] = value;
+    }
+
+    int index(int group, int row, int col) {
+        return ((group * rows + row) * cols + col) * LANES;
+    }
+
+    double[] data() {
+        return data;
+    }
+
+    public int groups() {
+        return (batch + LANES - 1) / LANES;
+    }
+
+    public int batch() {
+        return batch;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+}
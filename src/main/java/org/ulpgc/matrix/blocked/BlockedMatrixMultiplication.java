@@ -0,0 +1,123 @@
+package org.ulpgc.matrix.blocked;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.dense.DenseMatrix;
+
+public class BlockedMatrixMultiplication implements MatrixMultiplication, DenseMatrixMultiplication {
+    private static final int LEVELS = 3;
+
+    private final TileSizes tileSizes;
+
+    public BlockedMatrixMultiplication() {
+        this(TileSizeCalibrator.loadOrCalibrate());
+    }
+
+    public BlockedMatrixMultiplication(TileSizes tileSizes) {
+        this.tileSizes = tileSizes;
+    }
+
+    public TileSizes getTileSizes() {
+        return tileSizes;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+        double[][] result = new double[rows][cols];
+
+        multiplyLevel(0, matrixA, matrixB, result, 1.0, 0, rows, 0, common, 0, cols);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        MatrixAccumulation.scale(result, beta);
+        multiplyLevel(0, matrixA, matrixB, result, alpha, 0, result.length, 0, matrixB.length, 0, matrixB[0].length);
+    }
+
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        result.fill(0.0);
+        multiplyLevel(0, matrixA, matrixB, result, 0, result.rows(), 0, matrixA.cols(), 0, result.cols());
+    }
+
+    private void multiplyLevel(int level, double[][] matrixA, double[][] matrixB, double[][] result, double alpha,
+                               int rowStart, int rowEnd, int kStart, int kEnd, int colStart, int colEnd) {
+        if (level == LEVELS) {
+            multiplyTile(matrixA, matrixB, result, alpha, rowStart, rowEnd, kStart, kEnd, colStart, colEnd);
+            return;
+        }
+
+        int tile = tileSizes.atLevel(level);
+        for (int i = rowStart; i < rowEnd; i += tile) {
+            int iEnd = Math.min(i + tile, rowEnd);
+            for (int k = kStart; k < kEnd; k += tile) {
+                int kLimit = Math.min(k + tile, kEnd);
+                for (int j = colStart; j < colEnd; j += tile) {
+                    int jEnd = Math.min(j + tile, colEnd);
+                    multiplyLevel(level + 1, matrixA, matrixB, result, alpha, i, iEnd, k, kLimit, j, jEnd);
+                }
+            }
+        }
+    }
+
+    private static void multiplyTile(double[][] matrixA, double[][] matrixB, double[][] result, double alpha,
+                                     int rowStart, int rowEnd, int kStart, int kEnd, int colStart, int colEnd) {
+        for (int i = rowStart; i < rowEnd; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            for (int k = kStart; k < kEnd; k++) {
+                double a = alpha * rowA[k];
+                double[] rowB = matrixB[k];
+                for (int j = colStart; j < colEnd; j++) {
+                    rowC[j] += a * rowB[j];
+                }
+            }
+        }
+    }
+
+    private void multiplyLevel(int level, DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result,
+                               int rowStart, int rowEnd, int kStart, int kEnd, int colStart, int colEnd) {
+        if (level == LEVELS) {
+            multiplyTile(matrixA, matrixB, result, rowStart, rowEnd, kStart, kEnd, colStart, colEnd);
+            return;
+        }
+
+        int tile = tileSizes.atLevel(level);
+        for (int i = rowStart; i < rowEnd; i += tile) {
+            int iEnd = Math.min(i + tile, rowEnd);
+            for (int k = kStart; k < kEnd; k += tile) {
+                int kLimit = Math.min(k + tile, kEnd);
+                for (int j = colStart; j < colEnd; j += tile) {
+                    int jEnd = Math.min(j + tile, colEnd);
+                    multiplyLevel(level + 1, matrixA, matrixB, result, i, iEnd, k, kLimit, j, jEnd);
+                }
+            }
+        }
+    }
+
+    private static void multiplyTile(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result,
+                                     int rowStart, int rowEnd, int kStart, int kEnd, int colStart, int colEnd) {
+        double[] a = matrixA.data();
+        double[] b = matrixB.data();
+        double[] c = result.data();
+
+        for (int i = rowStart; i < rowEnd; i++) {
+            int rowA = matrixA.index(i, 0);
+            int rowC = result.index(i, 0);
+            for (int k = kStart; k < kEnd; k++) {
+                double value = a[rowA + k];
+                int rowB = matrixB.index(k, 0);
+                for (int j = colStart; j < colEnd; j++) {
+                    c[rowC + j] += value * b[rowB + j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.ulpgc.matrix.blocked;
+
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+public class TileSizeCalibrator {
+    public static final String DEFAULT_PATH = "results/tile_sizes.properties";
+
+    private static final int[] L1_CANDIDATES = {16, 32, 64};
+    private static final int[] L2_MULTIPLIERS = {2, 4, 8};
+    private static final int[] L3_MULTIPLIERS = {1, 2, 4};
+    private static final int CALIBRATION_SIZE = 512;
+    private static final int REPETITIONS = 3;
+
+    private static TileSizes cached;
+
+    public static void main(String[] args) {
+        Path path = Paths.get(args.length > 0 ? args[0] : DEFAULT_PATH);
+        TileSizes tileSizes = calibrate();
+        save(tileSizes, path);
+        System.out.println("Tile sizes " + tileSizes + " saved to: " + path);
+    }
+
+    public static synchronized TileSizes loadOrCalibrate() {
+        if (cached == null) {
+            cached = loadOrCalibrate(Paths.get(DEFAULT_PATH));
+        }
+        return cached;
+    }
+
+    public static TileSizes loadOrCalibrate(Path path) {
+        TileSizes tileSizes = load(path);
+        if (tileSizes == null) {
+            tileSizes = calibrate();
+            save(tileSizes, path);
+        }
+        return tileSizes;
+    }
+
+    public static TileSizes calibrate() {
+        double[][] a = MatrixGenerator.generateMatrix(CALIBRATION_SIZE, CALIBRATION_SIZE);
+        double[][] b = MatrixGenerator.generateMatrix(CALIBRATION_SIZE, CALIBRATION_SIZE);
+        TileSizes defaults = TileSizes.defaults();
+
+        int bestL1 = defaults.l1();
+        long bestTime = Long.MAX_VALUE;
+        for (int l1 : L1_CANDIDATES) {
+            long time = measure(new TileSizes(l1, l1 * 4, l1 * 16), a, b);
+            if (time < bestTime) {
+                bestTime = time;
+                bestL1 = l1;
+            }
+        }
+
+        int bestL2 = bestL1 * 4;
+        bestTime = Long.MAX_VALUE;
+        for (int multiplier : L2_MULTIPLIERS) {
+            int l2 = bestL1 * multiplier;
+            long time = measure(new TileSizes(bestL1, l2, l2 * 4), a, b);
+            if (time < bestTime) {
+                bestTime = time;
+                bestL2 = l2;
+            }
+        }
+
+        int bestL3 = bestL2;
+        bestTime = Long.MAX_VALUE;
+        for (int multiplier : L3_MULTIPLIERS) {
+            int l3 = bestL2 * multiplier;
+            long time = measure(new TileSizes(bestL1, bestL2, l3), a, b);
+            if (time < bestTime) {
+                bestTime = time;
+                bestL3 = l3;
+            }
+        }
+
+        return new TileSizes(bestL1, bestL2, bestL3);
+    }
+
+    public static TileSizes load(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (!hostKey().equals(properties.getProperty("host"))) {
+            return null;
+        }
+
+        try {
+            return new TileSizes(
+                    Integer.parseInt(properties.getProperty("tile.l1")),
+                    Integer.parseInt(properties.getProperty("tile.l2")),
+                    Integer.parseInt(properties.getProperty("tile.l3")));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    public static void save(TileSizes tileSizes, Path path) {
+        Properties properties = new Properties();
+        properties.setProperty("host", hostKey());
+        properties.setProperty("tile.l1", Integer.toString(tileSizes.l1()));
+        properties.setProperty("tile.l2", Integer.toString(tileSizes.l2()));
+        properties.setProperty("tile.l3", Integer.toString(tileSizes.l3()));
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(path)) {
+                properties.store(output, "Calibrated tile sizes for BlockedMatrixMultiplication");
+            }
+        } catch (IOException e) {
+            System.err.println("Could not persist tile sizes to " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static String hostKey() {
+        return System.getProperty("os.arch") + "-" + Runtime.getRuntime().availableProcessors();
+    }
+
+    private static long measure(TileSizes tileSizes, double[][] a, double[][] b) {
+        BlockedMatrixMultiplication multiplication = new BlockedMatrixMultiplication(tileSizes);
+        multiplication.multiply(a, b);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            multiplication.multiply(a, b);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,23 @@
+package org.ulpgc.matrix.blocked;
+
+public record TileSizes(int l1, int l2, int l3) {
+
+    public TileSizes {
+        if (l1 <= 0 || l2 < l1 || l3 < l2 || l2 % l1 != 0 || l3 % l2 != 0) {
+            throw new IllegalArgumentException("Tile sizes must be positive and nested (l1 | l2 | l3): "
+                    + l1 + ", " + l2 + ", " + l3);
+        }
+    }
+
+    public static TileSizes defaults() {
+        return new TileSizes(32, 128, 512);
+    }
+
+    int atLevel(int level) {
+        return switch (level) {
+            case 0 -> l3;
+            case 1 -> l2;
+            default -> l1;
+        };
+    }
+}
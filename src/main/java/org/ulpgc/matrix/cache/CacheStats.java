@@ -0,0 +1,13 @@
+package org.ulpgc.matrix.cache;
+
+public record CacheStats(long hits, long diskHits, long misses, long evictions, long spills, long bytes,
+                         long diskBytes) {
+
+    public long requests() {
+        return hits + diskHits + misses;
+    }
+
+    public double hitRate() {
+        return requests() == 0 ? 0.0 : (double) (hits + diskHits) / requests();
+    }
+}
@@ -0,0 +1,78 @@
+package org.ulpgc.matrix.cache;
+
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+
+import java.nio.file.Path;
+
+public class CachingMatrixMultiplication implements MatrixMultiplication, AutoCloseable {
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+
+    private final MatrixMultiplication delegate;
+    private final ResultCache cache;
+
+    public CachingMatrixMultiplication(MatrixMultiplication delegate) {
+        this(delegate, DEFAULT_MAX_BYTES);
+    }
+
+    public CachingMatrixMultiplication(MatrixMultiplication delegate, long maxBytes) {
+        this(delegate, new ResultCache(maxBytes));
+    }
+
+    public CachingMatrixMultiplication(MatrixMultiplication delegate, long maxBytes, Path diskDirectory,
+                                       long maxDiskBytes) {
+        this(delegate, new ResultCache(maxBytes, diskDirectory, maxDiskBytes));
+    }
+
+    public CachingMatrixMultiplication(MatrixMultiplication delegate, ResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        MatrixFingerprint key = MatrixFingerprint.of(matrixA, matrixB);
+        double[][] product = cache.get(key);
+        if (product != null) {
+            return copy(product);
+        }
+
+        product = delegate.multiply(matrixA, matrixB);
+        cache.put(key, copy(product));
+        return product;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        MatrixFingerprint key = MatrixFingerprint.of(matrixA, matrixB);
+        double[][] product = cache.get(key);
+        if (product == null) {
+            product = delegate.multiply(matrixA, matrixB);
+            cache.put(key, product);
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            for (int j = 0; j < result[i].length; j++) {
+                result[i][j] = MatrixAccumulation.update(alpha, product[i][j], beta, result[i][j]);
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void close() {
+        cache.close();
+    }
+
+    private static double[][] copy(double[][] matrix) {
+        double[][] copy = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+}
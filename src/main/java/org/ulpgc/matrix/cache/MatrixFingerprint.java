@@ -0,0 +1,93 @@
+package org.ulpgc.matrix.cache;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.stream.IntStream;
+
+public record MatrixFingerprint(long high, long low) {
+    public static final long PARALLEL_THRESHOLD = 1L << 16;
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final LongVector LANE_SEEDS = LongVector.zero(LONGS).addIndex(1).mul(PRIME_4);
+
+    public static MatrixFingerprint of(double[][] matrixA, double[][] matrixB) {
+        MatrixFingerprint a = of(matrixA);
+        MatrixFingerprint b = of(matrixB);
+        return new MatrixFingerprint(mix(a.high * PRIME_1 + b.high), mix(a.low * PRIME_2 + b.low));
+    }
+
+    public static MatrixFingerprint of(double[][] matrix) {
+        int rows = matrix.length;
+        long[] high = new long[rows];
+        long[] low = new long[rows];
+
+        long elements = rows == 0 ? 0 : (long) rows * matrix[0].length;
+        IntStream rowIndices = IntStream.range(0, rows);
+        (elements >= PARALLEL_THRESHOLD ? rowIndices.parallel() : rowIndices)
+                .forEach(i -> hashRow(matrix[i], i, high, low));
+
+        long h = rows * PRIME_1;
+        long l = rows * PRIME_2;
+        for (int i = 0; i < rows; i++) {
+            h = Long.rotateLeft(h ^ mix(high[i]), 27) * PRIME_1 + PRIME_4;
+            l = Long.rotateLeft(l ^ mix(low[i]), 31) * PRIME_2 + PRIME_3;
+        }
+        return new MatrixFingerprint(mix(h), mix(l));
+    }
+
+    private static void hashRow(double[] row, int index, long[] high, long[] low) {
+        long seed = PRIME_3 + index + ((long) row.length << 32);
+        LongVector acc0 = LANE_SEEDS.add(seed);
+        LongVector acc1 = LANE_SEEDS.add(seed + PRIME_1);
+        LongVector acc2 = LANE_SEEDS.add(seed + PRIME_2);
+        LongVector acc3 = LANE_SEEDS.add(seed - PRIME_1);
+
+        int lanes = DOUBLES.length();
+        int j = 0;
+        for (; j + 4 * lanes <= row.length; j += 4 * lanes) {
+            acc0 = round(acc0, row, j);
+            acc1 = round(acc1, row, j + lanes);
+            acc2 = round(acc2, row, j + 2 * lanes);
+            acc3 = round(acc3, row, j + 3 * lanes);
+        }
+        for (; j + lanes <= row.length; j += lanes) {
+            acc0 = round(acc0, row, j);
+        }
+        long tail = seed;
+        for (; j < row.length; j++) {
+            tail = Long.rotateLeft(tail + Double.doubleToRawLongBits(row[j]) * PRIME_2, 31) * PRIME_1;
+        }
+
+        LongVector acc = acc0.lanewise(VectorOperators.ROL, 1).add(acc1.lanewise(VectorOperators.ROL, 7))
+                .add(acc2.lanewise(VectorOperators.ROL, 12)).add(acc3.lanewise(VectorOperators.ROL, 18));
+        LongVector mixed = acc.lanewise(VectorOperators.XOR, acc.lanewise(VectorOperators.LSHR, 29));
+        high[index] = mixed.mul(PRIME_3).reduceLanes(VectorOperators.ADD) ^ tail;
+        low[index] = mixed.mul(PRIME_4).lanewise(VectorOperators.ROL, 23).reduceLanes(VectorOperators.XOR) + tail;
+    }
+
+    private static LongVector round(LongVector acc, double[] row, int offset) {
+        LongVector bits = DoubleVector.fromArray(DOUBLES, row, offset).reinterpretAsLongs();
+        return acc.add(bits.mul(PRIME_2)).lanewise(VectorOperators.ROL, 31).mul(PRIME_1);
+    }
+
+    public String hex() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
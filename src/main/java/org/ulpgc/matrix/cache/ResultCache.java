@@ -0,0 +1,163 @@
+package org.ulpgc.matrix.cache;
+
+import org.ulpgc.utils.MatrixFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ResultCache implements AutoCloseable {
+    private static final long ARRAY_OVERHEAD = 16;
+
+    private final long maxBytes;
+    private final Path diskDirectory;
+    private final long maxDiskBytes;
+    private final LinkedHashMap<MatrixFingerprint, double[][]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<MatrixFingerprint, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes;
+    private long diskBytes;
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+    private long spills;
+
+    public ResultCache(long maxBytes) {
+        this(maxBytes, null, 0);
+    }
+
+    public ResultCache(long maxBytes, Path diskDirectory, long maxDiskBytes) {
+        if (maxBytes < 0 || maxDiskBytes < 0) {
+            throw new IllegalArgumentException("Cache sizes must not be negative: " + maxBytes + ", " + maxDiskBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.diskDirectory = diskDirectory;
+        this.maxDiskBytes = diskDirectory == null ? 0 : maxDiskBytes;
+    }
+
+    public synchronized double[][] get(MatrixFingerprint key) {
+        double[][] product = memory.get(key);
+        if (product != null) {
+            hits++;
+            return product;
+        }
+
+        if (disk.get(key) != null) {
+            Path path = pathOf(key);
+            try {
+                product = MatrixFile.readArray(path);
+            } catch (IOException e) {
+                System.err.println("Could not read cached result " + path + ": " + e.getMessage());
+                removeFromDisk(key);
+                misses++;
+                return null;
+            }
+            diskHits++;
+            if (sizeOf(product) <= maxBytes) {
+                removeFromDisk(key);
+                put(key, product);
+            }
+            return product;
+        }
+
+        misses++;
+        return null;
+    }
+
+    public synchronized void put(MatrixFingerprint key, double[][] product) {
+        long size = sizeOf(product);
+        if (memory.containsKey(key) || disk.containsKey(key)) {
+            return;
+        }
+        if (size > maxBytes) {
+            if (!spill(key, product)) {
+                evictions++;
+            }
+            return;
+        }
+
+        memory.put(key, product);
+        bytes += size;
+        Iterator<Map.Entry<MatrixFingerprint, double[][]>> eldest = memory.entrySet().iterator();
+        while (bytes > maxBytes) {
+            Map.Entry<MatrixFingerprint, double[][]> entry = eldest.next();
+            eldest.remove();
+            bytes -= sizeOf(entry.getValue());
+            if (!spill(entry.getKey(), entry.getValue())) {
+                evictions++;
+            }
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, diskHits, misses, evictions, spills, bytes, diskBytes);
+    }
+
+    public synchronized void clear() {
+        memory.clear();
+        bytes = 0;
+        while (!disk.isEmpty()) {
+            removeFromDisk(disk.keySet().iterator().next());
+        }
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    public static long sizeOf(double[][] product) {
+        long size = ARRAY_OVERHEAD;
+        for (double[] row : product) {
+            size += ARRAY_OVERHEAD + (long) row.length * Double.BYTES;
+        }
+        return size;
+    }
+
+    private boolean spill(MatrixFingerprint key, double[][] product) {
+        long size = MatrixFile.HEADER_SIZE + (long) product.length * (product.length == 0 ? 0 : product[0].length)
+                * Double.BYTES;
+        if (diskDirectory == null || size > maxDiskBytes) {
+            return false;
+        }
+
+        Path path = pathOf(key);
+        try {
+            Files.createDirectories(diskDirectory);
+            MatrixFile.write(path, product);
+        } catch (IOException e) {
+            System.err.println("Could not spill cached result to " + path + ": " + e.getMessage());
+            return false;
+        }
+        disk.put(key, size);
+        diskBytes += size;
+        spills++;
+
+        while (diskBytes > maxDiskBytes) {
+            removeFromDisk(disk.keySet().iterator().next());
+            evictions++;
+        }
+        return true;
+    }
+
+    private void removeFromDisk(MatrixFingerprint key) {
+        Long size = disk.remove(key);
+        if (size == null) {
+            return;
+        }
+        diskBytes -= size;
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException e) {
+            System.err.println("Could not delete cached result " + pathOf(key) + ": " + e.getMessage());
+        }
+    }
+
+    private Path pathOf(MatrixFingerprint key) {
+        return diskDirectory.resolve(key.hex() + MatrixFile.EXTENSION);
+    }
+}
@@ -0,0 +1,21 @@
+package org.ulpgc.matrix.dense;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixMultiplication;
+
+public class ArrayMatrixAdapter implements DenseMatrixMultiplication {
+    private final MatrixMultiplication delegate;
+
+    public ArrayMatrixAdapter(MatrixMultiplication delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        double[][] product = delegate.multiply(matrixA.toArray(), matrixB.toArray());
+        for (int i = 0; i < result.rows(); i++) {
+            System.arraycopy(product[i], 0, result.data(), result.index(i, 0), result.cols());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.ulpgc.matrix.dense;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+
+public class BasicDenseMatrixMultiplication implements DenseMatrixMultiplication {
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        int rows = matrixA.rows();
+        int cols = matrixB.cols();
+        int common = matrixA.cols();
+
+        double[] a = matrixA.data();
+        double[] b = matrixB.data();
+        double[] c = result.data();
+        result.fill(0.0);
+
+        for (int i = 0; i < rows; i++) {
+            int rowA = matrixA.index(i, 0);
+            int rowC = result.index(i, 0);
+            for (int k = 0; k < common; k++) {
+                double value = a[rowA + k];
+                int rowB = matrixB.index(k, 0);
+                for (int j = 0; j < cols; j++) {
+                    c[rowC + j] += value * b[rowB + j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.ulpgc.matrix.dense;
+
+import java.util.Arrays;
+
+public final class DenseMatrix {
+    private final double[] data;
+    private final int offset;
+    private final int rows;
+    private final int cols;
+    private final int stride;
+
+    public DenseMatrix(int rows, int cols) {
+        this(new double[Math.multiplyExact(rows, cols)], 0, rows, cols, cols);
+    }
+
+    public DenseMatrix(double[] data, int offset, int rows, int cols, int stride) {
+        if (rows < 0 || cols < 0 || stride < cols || offset < 0) {
+            throw new IllegalArgumentException("Invalid matrix layout: " + rows + "x" + cols
+                    + " (offset " + offset + ", stride " + stride + ")");
+        }
+        if (rows > 0 && cols > 0 && offset + (long) (rows - 1) * stride + cols > data.length) {
+            throw new IllegalArgumentException("Backing array too small for " + rows + "x" + cols + " matrix");
+        }
+        this.data = data;
+        this.offset = offset;
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = stride;
+    }
+
+    public static DenseMatrix fromArray(double[][] matrix) {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        DenseMatrix dense = new DenseMatrix(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(matrix[i], 0, dense.data, i * cols, cols);
+        }
+        return dense;
+    }
+
+    public double[][] toArray() {
+        double[][] matrix = new double[rows][cols];
+        copyInto(matrix);
+        return matrix;
+    }
+
+    public void copyInto(double[][] matrix) {
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, offset + i * stride, matrix[i], 0, cols);
+        }
+    }
+
+    public DenseMatrix view(int rowStart, int colStart, int viewRows, int viewCols) {
+        if (rowStart < 0 || colStart < 0 || rowStart + viewRows > rows || colStart + viewCols > cols) {
+            throw new IndexOutOfBoundsException("View " + viewRows + "x" + viewCols + " at (" + rowStart + ", "
+                    + colStart + ") exceeds " + rows + "x" + cols + " matrix");
+        }
+        return new DenseMatrix(data, offset + rowStart * stride + colStart, viewRows, viewCols, stride);
+    }
+
+    public double get(int row, int col) {
+        return data[index(row, col)];
+    }
+
+    public void set(int row, int col, double value) {
+        data[index(row, col)] = value;
+    }
+
+    public int index(int row, int col) {
+        return offset + row * stride + col;
+    }
+
+    public void fill(double value) {
+        if (isContiguous()) {
+            Arrays.fill(data, offset, offset + rows * cols, value);
+            return;
+        }
+        for (int i = 0; i < rows; i++) {
+            int start = offset + i * stride;
+            Arrays.fill(data, start, start + cols, value);
+        }
+    }
+
+    public boolean isContiguous() {
+        return stride == cols || rows <= 1;
+    }
+
+    public double[] data() {
+        return data;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    public static void checkProduct(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        if (matrixA.cols != matrixB.rows || result.rows != matrixA.rows || result.cols != matrixB.cols) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows + "x" + matrixA.cols + " * "
+                    + matrixB.rows + "x" + matrixB.cols + " -> " + result.rows + "x" + result.cols);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.ulpgc.matrix.dense;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixMultiplication;
+
+public class DenseMatrixAdapter implements MatrixMultiplication {
+    private final DenseMatrixMultiplication delegate;
+
+    public DenseMatrixAdapter(DenseMatrixMultiplication delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        DenseMatrix result = delegate.multiply(DenseMatrix.fromArray(matrixA), DenseMatrix.fromArray(matrixB));
+        return result.toArray();
+    }
+}
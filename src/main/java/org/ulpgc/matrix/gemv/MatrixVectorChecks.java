@@ -0,0 +1,36 @@
+package org.ulpgc.matrix.gemv;
+
+final class MatrixVectorChecks {
+    private MatrixVectorChecks() {
+    }
+
+    static void checkGemv(double[][] matrix, double[] vector) {
+        if (matrix.length > 0 && matrix[0].length != vector.length) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrix.length + "x" + matrix[0].length
+                    + " * " + vector.length);
+        }
+    }
+
+    static void checkGemv(double[][] matrix, double[] vector, double[] result) {
+        checkGemv(matrix, vector);
+        if (result.length != matrix.length) {
+            throw new IllegalArgumentException("Result length " + result.length + " does not match "
+                    + matrix.length + " rows");
+        }
+    }
+
+    static void checkGevm(double[] vector, double[][] matrix, double[] result) {
+        checkGevm(vector, matrix);
+        if (result.length != matrix[0].length) {
+            throw new IllegalArgumentException("Result length " + result.length + " does not match "
+                    + matrix[0].length + " columns");
+        }
+    }
+
+    static void checkGevm(double[] vector, double[][] matrix) {
+        if (matrix.length != vector.length || matrix.length == 0) {
+            throw new IllegalArgumentException("Incompatible shapes: " + vector.length + " * " + matrix.length
+                    + "x" + (matrix.length == 0 ? 0 : matrix[0].length));
+        }
+    }
+}
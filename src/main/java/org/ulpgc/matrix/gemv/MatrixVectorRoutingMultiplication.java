@@ -0,0 +1,93 @@
+package org.ulpgc.matrix.gemv;
+
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.MatrixVectorMultiplication;
+
+public class MatrixVectorRoutingMultiplication implements MatrixMultiplication {
+    public static final long DEFAULT_PARALLEL_THRESHOLD = 1L << 18;
+
+    private final MatrixMultiplication delegate;
+    private final MatrixVectorMultiplication sequential;
+    private final MatrixVectorMultiplication parallel;
+    private final long parallelThreshold;
+    private final ThreadLocal<double[][]> columns = ThreadLocal.withInitial(() -> new double[2][0]);
+
+    public MatrixVectorRoutingMultiplication(MatrixMultiplication delegate) {
+        this(delegate, new VectorizedMatrixVector(), new ParallelMatrixVector(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public MatrixVectorRoutingMultiplication(MatrixMultiplication delegate, MatrixVectorMultiplication sequential,
+                                             MatrixVectorMultiplication parallel, long parallelThreshold) {
+        this.delegate = delegate;
+        this.sequential = sequential;
+        this.parallel = parallel;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        if (matrixB[0].length == 1) {
+            return toColumn(select(matrixA.length, matrixB.length).multiply(matrixA, toVector(matrixB)));
+        }
+        if (matrixA.length == 1) {
+            return new double[][]{select(matrixB.length, matrixB[0].length).multiply(matrixA[0], matrixB)};
+        }
+        return delegate.multiply(matrixA, matrixB);
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        if (result.length == 0 || matrixB.length == 0) {
+            delegate.multiplyInto(matrixA, matrixB, result, alpha, beta);
+        } else if (matrixB[0].length == 1) {
+            double[][] buffers = columns.get();
+            double[] vector = column(buffers, 0, matrixB);
+            double[] output = column(buffers, 1, result);
+            select(matrixA.length, matrixB.length).multiplyInto(matrixA, vector, output, alpha, beta);
+            for (int i = 0; i < output.length; i++) {
+                result[i][0] = output[i];
+            }
+        } else if (matrixA.length == 1) {
+            select(matrixB.length, matrixB[0].length).multiplyInto(matrixA[0], matrixB, result[0], alpha, beta);
+        } else {
+            delegate.multiplyInto(matrixA, matrixB, result, alpha, beta);
+        }
+    }
+
+    public static boolean isVectorShape(double[][] matrixA, double[][] matrixB) {
+        return matrixA.length > 0 && matrixB.length > 0 && (matrixA.length == 1 || matrixB[0].length == 1);
+    }
+
+    private MatrixVectorMultiplication select(int rows, int cols) {
+        return (long) rows * cols >= parallelThreshold ? parallel : sequential;
+    }
+
+    private static double[] column(double[][] buffers, int slot, double[][] matrix) {
+        if (buffers[slot].length != matrix.length) {
+            buffers[slot] = new double[matrix.length];
+        }
+        double[] vector = buffers[slot];
+        for (int k = 0; k < matrix.length; k++) {
+            vector[k] = matrix[k][0];
+        }
+        return vector;
+    }
+
+    static double[] toVector(double[][] column) {
+        double[] vector = new double[column.length];
+        for (int k = 0; k < column.length; k++) {
+            vector[k] = column[k][0];
+        }
+        return vector;
+    }
+
+    static double[][] toColumn(double[] vector) {
+        double[][] column = new double[vector.length][1];
+        for (int i = 0; i < vector.length; i++) {
+            column[i][0] = vector[i];
+        }
+        return column;
+    }
+}
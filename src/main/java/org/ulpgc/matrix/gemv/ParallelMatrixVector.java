@@ -0,0 +1,48 @@
+package org.ulpgc.matrix.gemv;
+
+import org.ulpgc.matrix.MatrixVectorMultiplication;
+
+import java.util.stream.IntStream;
+
+public class ParallelMatrixVector implements MatrixVectorMultiplication {
+    private static final int ROW_BLOCK = 64;
+    private static final int COLUMN_BLOCK = 512;
+
+    @Override
+    public double[] multiply(double[][] matrix, double[] vector) {
+        double[] result = new double[matrix.length];
+        multiplyInto(matrix, vector, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public double[] multiply(double[] vector, double[][] matrix) {
+        MatrixVectorChecks.checkGevm(vector, matrix);
+        double[] result = new double[matrix[0].length];
+        multiplyInto(vector, matrix, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrix, double[] vector, double[] result, double alpha, double beta) {
+        MatrixVectorChecks.checkGemv(matrix, vector, result);
+        int blocks = (matrix.length + ROW_BLOCK - 1) / ROW_BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            int rowStart = block * ROW_BLOCK;
+            VectorizedMatrixVector.gemvRows(matrix, vector, result, alpha, beta, rowStart,
+                    Math.min(rowStart + ROW_BLOCK, matrix.length));
+        });
+    }
+
+    @Override
+    public void multiplyInto(double[] vector, double[][] matrix, double[] result, double alpha, double beta) {
+        MatrixVectorChecks.checkGevm(vector, matrix, result);
+        int cols = result.length;
+        int blocks = (cols + COLUMN_BLOCK - 1) / COLUMN_BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            int colStart = block * COLUMN_BLOCK;
+            VectorizedMatrixVector.gevmColumns(vector, matrix, result, alpha, beta, colStart,
+                    Math.min(colStart + COLUMN_BLOCK, cols));
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package org.ulpgc.matrix.gemv;
+
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixVectorMultiplication;
+
+public class ScalarMatrixVector implements MatrixVectorMultiplication {
+    @Override
+    public double[] multiply(double[][] matrix, double[] vector) {
+        double[] result = new double[matrix.length];
+        multiplyInto(matrix, vector, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public double[] multiply(double[] vector, double[][] matrix) {
+        MatrixVectorChecks.checkGevm(vector, matrix);
+        double[] result = new double[matrix[0].length];
+        multiplyInto(vector, matrix, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrix, double[] vector, double[] result, double alpha, double beta) {
+        MatrixVectorChecks.checkGemv(matrix, vector, result);
+        for (int i = 0; i < matrix.length; i++) {
+            double[] row = matrix[i];
+            double sum = 0;
+            for (int k = 0; k < vector.length; k++) {
+                sum += row[k] * vector[k];
+            }
+            result[i] = MatrixAccumulation.update(alpha, sum, beta, result[i]);
+        }
+    }
+
+    @Override
+    public void multiplyInto(double[] vector, double[][] matrix, double[] result, double alpha, double beta) {
+        MatrixVectorChecks.checkGevm(vector, matrix, result);
+        MatrixAccumulation.scale(result, beta, 0, result.length);
+        for (int k = 0; k < vector.length; k++) {
+            double value = alpha * vector[k];
+            double[] row = matrix[k];
+            for (int j = 0; j < result.length; j++) {
+                result[j] += value * row[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.ulpgc.matrix.gemv;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixVectorMultiplication;
+
+public class VectorizedMatrixVector implements MatrixVectorMultiplication {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public double[] multiply(double[][] matrix, double[] vector) {
+        double[] result = new double[matrix.length];
+        multiplyInto(matrix, vector, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public double[] multiply(double[] vector, double[][] matrix) {
+        MatrixVectorChecks.checkGevm(vector, matrix);
+        double[] result = new double[matrix[0].length];
+        multiplyInto(vector, matrix, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrix, double[] vector, double[] result, double alpha, double beta) {
+        MatrixVectorChecks.checkGemv(matrix, vector, result);
+        gemvRows(matrix, vector, result, alpha, beta, 0, matrix.length);
+    }
+
+    @Override
+    public void multiplyInto(double[] vector, double[][] matrix, double[] result, double alpha, double beta) {
+        MatrixVectorChecks.checkGevm(vector, matrix, result);
+        gevmColumns(vector, matrix, result, alpha, beta, 0, result.length);
+    }
+
+    static void gemvRows(double[][] matrix, double[] vector, double[] result, double alpha, double beta,
+                         int rowStart, int rowEnd) {
+        int length = vector.length;
+        int bound = length - length % (4 * LANES);
+        for (int i = rowStart; i < rowEnd; i++) {
+            double[] row = matrix[i];
+            DoubleVector acc0 = DoubleVector.zero(SPECIES);
+            DoubleVector acc1 = DoubleVector.zero(SPECIES);
+            DoubleVector acc2 = DoubleVector.zero(SPECIES);
+            DoubleVector acc3 = DoubleVector.zero(SPECIES);
+            int k = 0;
+            for (; k < bound; k += 4 * LANES) {
+                acc0 = DoubleVector.fromArray(SPECIES, row, k).fma(DoubleVector.fromArray(SPECIES, vector, k), acc0);
+                acc1 = DoubleVector.fromArray(SPECIES, row, k + LANES)
+                        .fma(DoubleVector.fromArray(SPECIES, vector, k + LANES), acc1);
+                acc2 = DoubleVector.fromArray(SPECIES, row, k + 2 * LANES)
+                        .fma(DoubleVector.fromArray(SPECIES, vector, k + 2 * LANES), acc2);
+                acc3 = DoubleVector.fromArray(SPECIES, row, k + 3 * LANES)
+                        .fma(DoubleVector.fromArray(SPECIES, vector, k + 3 * LANES), acc3);
+            }
+            for (; k < length; k += LANES) {
+                VectorMask<Double> mask = SPECIES.indexInRange(k, length);
+                acc0 = DoubleVector.fromArray(SPECIES, row, k, mask)
+                        .fma(DoubleVector.fromArray(SPECIES, vector, k, mask), acc0);
+            }
+            double sum = acc0.add(acc1).add(acc2.add(acc3)).reduceLanes(VectorOperators.ADD);
+            result[i] = MatrixAccumulation.update(alpha, sum, beta, result[i]);
+        }
+    }
+
+    static void gevmColumns(double[] vector, double[][] matrix, double[] result, double alpha, double beta,
+                            int colStart, int colEnd) {
+        MatrixAccumulation.scale(result, beta, colStart, colEnd);
+        int bound = colStart + SPECIES.loopBound(colEnd - colStart);
+        for (int k = 0; k < vector.length; k++) {
+            DoubleVector value = DoubleVector.broadcast(SPECIES, alpha * vector[k]);
+            double[] row = matrix[k];
+            for (int j = colStart; j < bound; j += LANES) {
+                value.fma(DoubleVector.fromArray(SPECIES, row, j), DoubleVector.fromArray(SPECIES, result, j))
+                        .intoArray(result, j);
+            }
+        }
+        if (bound < colEnd) {
+            for (int k = 0; k < vector.length; k++) {
+                double value = alpha * vector[k];
+                double[] row = matrix[k];
+                for (int j = bound; j < colEnd; j++) {
+                    result[j] += value * row[j];
+                }
+            }
+        }
+    }
+}
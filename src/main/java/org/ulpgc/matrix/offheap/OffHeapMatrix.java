@@ -0,0 +1,128 @@
+package org.ulpgc.matrix.offheap;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+public final class OffHeapMatrix implements AutoCloseable {
+    public static final long ALIGNMENT = 64;
+    private static final int ELEMENTS_PER_LINE = (int) (ALIGNMENT / Double.BYTES);
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int rows;
+    private final int cols;
+    private final int stride;
+
+    private OffHeapMatrix(Arena arena, MemorySegment segment, int rows, int cols, int stride) {
+        this.arena = arena;
+        this.segment = segment;
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = stride;
+    }
+
+    public static OffHeapMatrix allocate(int rows, int cols) {
+        Arena arena = Arena.ofShared();
+        try {
+            return new OffHeapMatrix(arena, allocateSegment(arena, rows, cols), rows, cols, paddedStride(cols));
+        } catch (RuntimeException | Error e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public static OffHeapMatrix allocate(int rows, int cols, Arena arena) {
+        return new OffHeapMatrix(null, allocateSegment(arena, rows, cols), rows, cols, paddedStride(cols));
+    }
+
+    public static OffHeapMatrix wrap(MemorySegment segment, int rows, int cols, int stride) {
+        if (rows < 0 || cols < 0 || stride < cols) {
+            throw new IllegalArgumentException("Stride " + stride + " cannot hold a " + rows + "x" + cols + " matrix");
+        }
+        if (segment.byteSize() < (long) rows * stride * Double.BYTES) {
+            throw new IllegalArgumentException("Segment too small for " + rows + "x" + cols + " matrix");
+        }
+        return new OffHeapMatrix(null, segment, rows, cols, stride);
+    }
+
+    public static OffHeapMatrix fromArray(double[][] matrix) {
+        OffHeapMatrix offHeap = allocate(matrix.length, matrix[0].length);
+        offHeap.copyFrom(matrix);
+        return offHeap;
+    }
+
+    public void copyFrom(double[][] matrix) {
+        for (int i = 0; i < rows; i++) {
+            MemorySegment.copy(matrix[i], 0, segment, ValueLayout.JAVA_DOUBLE, rowOffset(i), cols);
+        }
+    }
+
+    public double[][] toArray() {
+        double[][] matrix = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            MemorySegment.copy(segment, ValueLayout.JAVA_DOUBLE, rowOffset(i), matrix[i], 0, cols);
+        }
+        return matrix;
+    }
+
+    public double get(int row, int col) {
+        return segment.get(ValueLayout.JAVA_DOUBLE, offset(row, col));
+    }
+
+    public void set(int row, int col, double value) {
+        segment.set(ValueLayout.JAVA_DOUBLE, offset(row, col), value);
+    }
+
+    public void fill(double value) {
+        if (value == 0.0) {
+            segment.fill((byte) 0);
+            return;
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                set(i, j, value);
+            }
+        }
+    }
+
+    public long offset(int row, int col) {
+        return ((long) row * stride + col) * Double.BYTES;
+    }
+
+    public long rowOffset(int row) {
+        return (long) row * stride * Double.BYTES;
+    }
+
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+
+    private static MemorySegment allocateSegment(Arena arena, int rows, int cols) {
+        long bytes = (long) rows * paddedStride(cols) * Double.BYTES;
+        return arena.allocate(bytes, ALIGNMENT);
+    }
+
+    private static int paddedStride(int cols) {
+        return (cols + ELEMENTS_PER_LINE - 1) / ELEMENTS_PER_LINE * ELEMENTS_PER_LINE;
+    }
+}
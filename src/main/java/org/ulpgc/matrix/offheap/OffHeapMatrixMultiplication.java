@@ -0,0 +1,223 @@
+package org.ulpgc.matrix.offheap;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+import org.ulpgc.matrix.MatrixMultiplication;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.stream.IntStream;
+
+public class OffHeapMatrixMultiplication implements MatrixMultiplication {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int BLOCK = 4 * LANES;
+    private static final int ROWS_PER_GROUP = 4;
+    private static final int KC = 128;
+    private static final int NC = 512;
+    private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    private final boolean parallel;
+
+    public OffHeapMatrixMultiplication() {
+        this(false);
+    }
+
+    public OffHeapMatrixMultiplication(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        try (OffHeapMatrix a = OffHeapMatrix.fromArray(matrixA);
+             OffHeapMatrix b = OffHeapMatrix.fromArray(matrixB);
+             OffHeapMatrix c = OffHeapMatrix.allocate(matrixA.length, matrixB[0].length)) {
+            multiply(a, b, c);
+            return c.toArray();
+        }
+    }
+
+    public void multiply(OffHeapMatrix matrixA, OffHeapMatrix matrixB, OffHeapMatrix result) {
+        if (matrixA.cols() != matrixB.rows() || result.rows() != matrixA.rows() || result.cols() != matrixB.cols()) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows() + "x" + matrixA.cols() + " * "
+                    + matrixB.rows() + "x" + matrixB.cols() + " -> " + result.rows() + "x" + result.cols());
+        }
+
+        int rows = result.rows();
+        int cols = result.cols();
+        int common = matrixA.cols();
+        if (common == 0) {
+            for (int i = 0; i < rows; i++) {
+                result.segment().asSlice(result.rowOffset(i), (long) cols * Double.BYTES).fill((byte) 0);
+            }
+            return;
+        }
+
+        int groups = (rows + ROWS_PER_GROUP - 1) / ROWS_PER_GROUP;
+        for (int jc = 0; jc < cols; jc += NC) {
+            int colEnd = Math.min(jc + NC, cols);
+            for (int pc = 0; pc < common; pc += KC) {
+                int colStart = jc;
+                int kStart = pc;
+                int kEnd = Math.min(pc + KC, common);
+                IntStream rowGroups = IntStream.range(0, groups);
+                (parallel ? rowGroups.parallel() : rowGroups).forEach(group -> {
+                    int rowStart = group * ROWS_PER_GROUP;
+                    if (rowStart + ROWS_PER_GROUP <= rows) {
+                        multiplyRowGroup(matrixA, matrixB, result, rowStart, kStart, kEnd, colStart, colEnd);
+                    } else {
+                        for (int i = rowStart; i < rows; i++) {
+                            multiplyRow(matrixA, matrixB, result, i, kStart, kEnd, colStart, colEnd);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static void multiplyRowGroup(OffHeapMatrix matrixA, OffHeapMatrix matrixB, OffHeapMatrix result,
+                                         int rowStart, int kStart, int kEnd, int colStart, int colEnd) {
+        MemorySegment a = matrixA.segment();
+        MemorySegment b = matrixB.segment();
+        MemorySegment c = result.segment();
+        long rowA0 = matrixA.rowOffset(rowStart);
+        long rowA1 = matrixA.rowOffset(rowStart + 1);
+        long rowA2 = matrixA.rowOffset(rowStart + 2);
+        long rowA3 = matrixA.rowOffset(rowStart + 3);
+        long strideB = (long) matrixB.stride() * Double.BYTES;
+        long vectorBytes = (long) LANES * Double.BYTES;
+        boolean accumulate = kStart > 0;
+
+        int fullCols = colStart + (colEnd - colStart) / (2 * LANES) * (2 * LANES);
+        for (int j = colStart; j < fullCols; j += 2 * LANES) {
+            DoubleVector c00 = DoubleVector.zero(SPECIES);
+            DoubleVector c01 = DoubleVector.zero(SPECIES);
+            DoubleVector c10 = DoubleVector.zero(SPECIES);
+            DoubleVector c11 = DoubleVector.zero(SPECIES);
+            DoubleVector c20 = DoubleVector.zero(SPECIES);
+            DoubleVector c21 = DoubleVector.zero(SPECIES);
+            DoubleVector c30 = DoubleVector.zero(SPECIES);
+            DoubleVector c31 = DoubleVector.zero(SPECIES);
+
+            long offsetB = matrixB.offset(kStart, j);
+            for (int k = kStart; k < kEnd; k++) {
+                DoubleVector b0 = DoubleVector.fromMemorySegment(SPECIES, b, offsetB, ORDER);
+                DoubleVector b1 = DoubleVector.fromMemorySegment(SPECIES, b, offsetB + vectorBytes, ORDER);
+                long offsetA = (long) k * Double.BYTES;
+
+                DoubleVector a0 = DoubleVector.broadcast(SPECIES, a.get(ValueLayout.JAVA_DOUBLE, rowA0 + offsetA));
+                c00 = a0.fma(b0, c00);
+                c01 = a0.fma(b1, c01);
+                DoubleVector a1 = DoubleVector.broadcast(SPECIES, a.get(ValueLayout.JAVA_DOUBLE, rowA1 + offsetA));
+                c10 = a1.fma(b0, c10);
+                c11 = a1.fma(b1, c11);
+                DoubleVector a2 = DoubleVector.broadcast(SPECIES, a.get(ValueLayout.JAVA_DOUBLE, rowA2 + offsetA));
+                c20 = a2.fma(b0, c20);
+                c21 = a2.fma(b1, c21);
+                DoubleVector a3 = DoubleVector.broadcast(SPECIES, a.get(ValueLayout.JAVA_DOUBLE, rowA3 + offsetA));
+                c30 = a3.fma(b0, c30);
+                c31 = a3.fma(b1, c31);
+
+                offsetB += strideB;
+            }
+
+            long offsetC0 = result.offset(rowStart, j);
+            long offsetC1 = result.offset(rowStart + 1, j);
+            long offsetC2 = result.offset(rowStart + 2, j);
+            long offsetC3 = result.offset(rowStart + 3, j);
+            if (accumulate) {
+                c00 = c00.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC0, ORDER));
+                c01 = c01.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC0 + vectorBytes, ORDER));
+                c10 = c10.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC1, ORDER));
+                c11 = c11.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC1 + vectorBytes, ORDER));
+                c20 = c20.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC2, ORDER));
+                c21 = c21.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC2 + vectorBytes, ORDER));
+                c30 = c30.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC3, ORDER));
+                c31 = c31.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC3 + vectorBytes, ORDER));
+            }
+            c00.intoMemorySegment(c, offsetC0, ORDER);
+            c01.intoMemorySegment(c, offsetC0 + vectorBytes, ORDER);
+            c10.intoMemorySegment(c, offsetC1, ORDER);
+            c11.intoMemorySegment(c, offsetC1 + vectorBytes, ORDER);
+            c20.intoMemorySegment(c, offsetC2, ORDER);
+            c21.intoMemorySegment(c, offsetC2 + vectorBytes, ORDER);
+            c30.intoMemorySegment(c, offsetC3, ORDER);
+            c31.intoMemorySegment(c, offsetC3 + vectorBytes, ORDER);
+        }
+
+        for (int i = rowStart; i < rowStart + ROWS_PER_GROUP; i++) {
+            multiplyMaskedColumns(matrixA, matrixB, result, i, kStart, kEnd, fullCols, colEnd);
+        }
+    }
+
+    private static void multiplyRow(OffHeapMatrix matrixA, OffHeapMatrix matrixB, OffHeapMatrix result, int row,
+                                    int kStart, int kEnd, int colStart, int colEnd) {
+        MemorySegment a = matrixA.segment();
+        MemorySegment b = matrixB.segment();
+        MemorySegment c = result.segment();
+        long rowA = matrixA.rowOffset(row);
+        long strideB = (long) matrixB.stride() * Double.BYTES;
+        long vectorBytes = (long) LANES * Double.BYTES;
+        boolean accumulate = kStart > 0;
+
+        int j = colStart;
+        for (; j + BLOCK <= colEnd; j += BLOCK) {
+            DoubleVector acc0 = DoubleVector.zero(SPECIES);
+            DoubleVector acc1 = DoubleVector.zero(SPECIES);
+            DoubleVector acc2 = DoubleVector.zero(SPECIES);
+            DoubleVector acc3 = DoubleVector.zero(SPECIES);
+            long offsetB = matrixB.offset(kStart, j);
+            for (int k = kStart; k < kEnd; k++) {
+                DoubleVector value = DoubleVector.broadcast(SPECIES,
+                        a.get(ValueLayout.JAVA_DOUBLE, rowA + (long) k * Double.BYTES));
+                acc0 = DoubleVector.fromMemorySegment(SPECIES, b, offsetB, ORDER).fma(value, acc0);
+                acc1 = DoubleVector.fromMemorySegment(SPECIES, b, offsetB + vectorBytes, ORDER).fma(value, acc1);
+                acc2 = DoubleVector.fromMemorySegment(SPECIES, b, offsetB + 2 * vectorBytes, ORDER).fma(value, acc2);
+                acc3 = DoubleVector.fromMemorySegment(SPECIES, b, offsetB + 3 * vectorBytes, ORDER).fma(value, acc3);
+                offsetB += strideB;
+            }
+            long offsetC = result.offset(row, j);
+            if (accumulate) {
+                acc0 = acc0.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC, ORDER));
+                acc1 = acc1.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC + vectorBytes, ORDER));
+                acc2 = acc2.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC + 2 * vectorBytes, ORDER));
+                acc3 = acc3.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC + 3 * vectorBytes, ORDER));
+            }
+            acc0.intoMemorySegment(c, offsetC, ORDER);
+            acc1.intoMemorySegment(c, offsetC + vectorBytes, ORDER);
+            acc2.intoMemorySegment(c, offsetC + 2 * vectorBytes, ORDER);
+            acc3.intoMemorySegment(c, offsetC + 3 * vectorBytes, ORDER);
+        }
+
+        multiplyMaskedColumns(matrixA, matrixB, result, row, kStart, kEnd, j, colEnd);
+    }
+
+    private static void multiplyMaskedColumns(OffHeapMatrix matrixA, OffHeapMatrix matrixB, OffHeapMatrix result,
+                                              int row, int kStart, int kEnd, int colStart, int colEnd) {
+        MemorySegment a = matrixA.segment();
+        MemorySegment b = matrixB.segment();
+        MemorySegment c = result.segment();
+        long rowA = matrixA.rowOffset(row);
+        long strideB = (long) matrixB.stride() * Double.BYTES;
+        boolean accumulate = kStart > 0;
+
+        for (int j = colStart; j < colEnd; j += LANES) {
+            VectorMask<Double> mask = SPECIES.indexInRange(j, colEnd);
+            DoubleVector acc = DoubleVector.zero(SPECIES);
+            long offsetB = matrixB.offset(kStart, j);
+            for (int k = kStart; k < kEnd; k++) {
+                DoubleVector value = DoubleVector.broadcast(SPECIES,
+                        a.get(ValueLayout.JAVA_DOUBLE, rowA + (long) k * Double.BYTES));
+                acc = DoubleVector.fromMemorySegment(SPECIES, b, offsetB, ORDER, mask).fma(value, acc);
+                offsetB += strideB;
+            }
+            long offsetC = result.offset(row, j);
+            if (accumulate) {
+                acc = acc.add(DoubleVector.fromMemorySegment(SPECIES, c, offsetC, ORDER, mask));
+            }
+            acc.intoMemorySegment(c, offsetC, ORDER, mask);
+        }
+    }
+}
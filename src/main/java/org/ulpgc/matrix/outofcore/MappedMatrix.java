@@ -0,0 +1,113 @@
+package org.ulpgc.matrix.outofcore;
+
+import org.ulpgc.utils.MatrixFile;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class MappedMatrix implements AutoCloseable {
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int rows;
+    private final int cols;
+    private final long dataOffset;
+
+    private MappedMatrix(Arena arena, MemorySegment segment, int rows, int cols, long dataOffset) {
+        this.arena = arena;
+        this.segment = segment;
+        this.rows = rows;
+        this.cols = cols;
+        this.dataOffset = dataOffset;
+    }
+
+    public static MappedMatrix create(Path path, int rows, int cols) throws IOException {
+        return map(path, rows, cols, 0, true);
+    }
+
+    public static MappedMatrix open(Path path, int rows, int cols) throws IOException {
+        return map(path, rows, cols, 0, false);
+    }
+
+    public static MappedMatrix createMatrixFile(Path path, int rows, int cols) throws IOException {
+        checkByteOrder(path);
+        return map(path, rows, cols, MatrixFile.HEADER_SIZE, true);
+    }
+
+    public static MappedMatrix openMatrixFile(Path path) throws IOException {
+        checkByteOrder(path);
+        MatrixFile.Header header = MatrixFile.readHeader(path);
+        return map(path, header.rows(), header.cols(), MatrixFile.HEADER_SIZE, false);
+    }
+
+    private static void checkByteOrder(Path path) throws IOException {
+        if (ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+            throw new IOException("Mapping " + path + " requires a little-endian host");
+        }
+    }
+
+    static MappedMatrix map(Path path, int rows, int cols, long dataOffset, boolean create) throws IOException {
+        long size = dataOffset + (long) rows * cols * Double.BYTES;
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = create
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (!create && channel.size() < size) {
+                throw new IOException("File " + path + " is too small for a " + rows + "x" + cols + " matrix");
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            return new MappedMatrix(arena, segment, rows, cols, dataOffset);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public void readTile(int rowStart, int colStart, int tileRows, int tileCols, double[] target) {
+        for (int i = 0; i < tileRows; i++) {
+            MemorySegment.copy(segment, ValueLayout.JAVA_DOUBLE, offset(rowStart + i, colStart),
+                    target, i * tileCols, tileCols);
+        }
+    }
+
+    public void writeTile(int rowStart, int colStart, int tileRows, int tileCols, double[] source) {
+        for (int i = 0; i < tileRows; i++) {
+            MemorySegment.copy(source, i * tileCols, segment, ValueLayout.JAVA_DOUBLE,
+                    offset(rowStart + i, colStart), tileCols);
+        }
+    }
+
+    public double get(int row, int col) {
+        return segment.get(ValueLayout.JAVA_DOUBLE, offset(row, col));
+    }
+
+    public void set(int row, int col, double value) {
+        segment.set(ValueLayout.JAVA_DOUBLE, offset(row, col), value);
+    }
+
+    public void force() {
+        segment.force();
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    private long offset(int row, int col) {
+        return dataOffset + ((long) row * cols + col) * Double.BYTES;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
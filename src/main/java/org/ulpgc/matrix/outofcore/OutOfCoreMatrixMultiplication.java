@@ -0,0 +1,146 @@
+package org.ulpgc.matrix.outofcore;
+
+import org.ulpgc.matrix.dense.DenseMatrix;
+import org.ulpgc.matrix.vectorized.ParallelVectorizedMatrixMultiplication;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class OutOfCoreMatrixMultiplication implements AutoCloseable {
+    public static final int DEFAULT_TILE_SIZE = 2048;
+
+    private final int tileSize;
+    private final ExecutorService computePool;
+    private final ExecutorService ioExecutor;
+    private final ParallelVectorizedMatrixMultiplication kernel;
+
+    public OutOfCoreMatrixMultiplication(int numThreads) {
+        this(numThreads, DEFAULT_TILE_SIZE);
+    }
+
+    public OutOfCoreMatrixMultiplication(int numThreads, int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("tileSize must be positive: " + tileSize);
+        }
+        if ((long) tileSize * tileSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("A " + tileSize + "x" + tileSize + " tile does not fit in one array");
+        }
+        this.tileSize = tileSize;
+        this.computePool = Executors.newFixedThreadPool(numThreads, Thread.ofPlatform().daemon(true).factory());
+        this.ioExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon(true).factory());
+        this.kernel = new ParallelVectorizedMatrixMultiplication(computePool, numThreads);
+    }
+
+    public OutOfCoreStats multiply(MappedMatrix matrixA, MappedMatrix matrixB, MappedMatrix result) {
+        if (matrixA.cols() != matrixB.rows() || result.rows() != matrixA.rows() || result.cols() != matrixB.cols()) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows() + "x" + matrixA.cols() + " * "
+                    + matrixB.rows() + "x" + matrixB.cols() + " -> " + result.rows() + "x" + result.cols());
+        }
+
+        int rows = result.rows();
+        int cols = result.cols();
+        int common = matrixA.cols();
+        int rowTiles = ceilDiv(rows, tileSize);
+        int colTiles = ceilDiv(cols, tileSize);
+        int commonTiles = ceilDiv(common, tileSize);
+        int steps = rowTiles * colTiles * commonTiles;
+
+        int tileElements = (int) ((long) tileSize * tileSize);
+        TilePair[] buffers = {new TilePair(tileElements), new TilePair(tileElements)};
+        double[][] resultBuffers = {new double[tileElements], new double[tileElements]};
+        CompletableFuture<?>[] pendingWrites = {CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)};
+
+        long bytesRead = 0;
+        long bytesWritten = 0;
+        long start = System.nanoTime();
+
+        CompletableFuture<TilePair> next = load(matrixA, matrixB, buffers[0], 0, rowTiles, colTiles, commonTiles);
+        int outputTile = 0;
+        DenseMatrix accumulator = null;
+        for (int step = 0; step < steps; step++) {
+            TilePair current = next.join();
+            if (step + 1 < steps) {
+                next = load(matrixA, matrixB, buffers[(step + 1) % 2], step + 1, rowTiles, colTiles, commonTiles);
+            }
+            bytesRead += ((long) current.a.rows() * current.a.cols() + (long) current.b.rows() * current.b.cols())
+                    * Double.BYTES;
+
+            if (current.kTile == 0) {
+                int slot = outputTile % 2;
+                pendingWrites[slot].join();
+                accumulator = new DenseMatrix(resultBuffers[slot], 0, current.a.rows(), current.b.cols(), current.b.cols());
+                accumulator.fill(0.0);
+            }
+
+            kernel.multiplyAdd(current.a, current.b, accumulator);
+
+            if (current.kTile == commonTiles - 1) {
+                DenseMatrix finished = accumulator;
+                int rowStart = current.rowTile * tileSize;
+                int colStart = current.colTile * tileSize;
+                pendingWrites[outputTile % 2] = CompletableFuture.runAsync(() -> result.writeTile(
+                        rowStart, colStart, finished.rows(), finished.cols(), finished.data()), ioExecutor);
+                bytesWritten += (long) finished.rows() * finished.cols() * Double.BYTES;
+                outputTile++;
+            }
+        }
+
+        CompletableFuture.allOf(pendingWrites).join();
+        result.force();
+
+        long elapsed = System.nanoTime() - start;
+        double flops = 2.0 * rows * cols * common;
+        return new OutOfCoreStats(bytesRead, bytesWritten, flops, elapsed);
+    }
+
+    private CompletableFuture<TilePair> load(MappedMatrix matrixA, MappedMatrix matrixB, TilePair buffer, int step,
+                                             int rowTiles, int colTiles, int commonTiles) {
+        int kTile = step % commonTiles;
+        int colTile = (step / commonTiles) % colTiles;
+        int rowTile = step / (commonTiles * colTiles);
+
+        return CompletableFuture.supplyAsync(() -> {
+            int rowStart = rowTile * tileSize;
+            int colStart = colTile * tileSize;
+            int kStart = kTile * tileSize;
+            int tileRows = Math.min(tileSize, matrixA.rows() - rowStart);
+            int tileCols = Math.min(tileSize, matrixB.cols() - colStart);
+            int tileCommon = Math.min(tileSize, matrixA.cols() - kStart);
+
+            matrixA.readTile(rowStart, kStart, tileRows, tileCommon, buffer.dataA);
+            matrixB.readTile(kStart, colStart, tileCommon, tileCols, buffer.dataB);
+            buffer.a = new DenseMatrix(buffer.dataA, 0, tileRows, tileCommon, tileCommon);
+            buffer.b = new DenseMatrix(buffer.dataB, 0, tileCommon, tileCols, tileCols);
+            buffer.rowTile = rowTile;
+            buffer.colTile = colTile;
+            buffer.kTile = kTile;
+            return buffer;
+        }, ioExecutor);
+    }
+
+    @Override
+    public void close() {
+        ioExecutor.shutdown();
+        computePool.shutdown();
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private static final class TilePair {
+        private final double[] dataA;
+        private final double[] dataB;
+        private DenseMatrix a;
+        private DenseMatrix b;
+        private int rowTile;
+        private int colTile;
+        private int kTile;
+
+        TilePair(int elements) {
+            this.dataA = new double[elements];
+            this.dataB = new double[elements];
+        }
+    }
+}
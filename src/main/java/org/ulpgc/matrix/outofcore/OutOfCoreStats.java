@@ -0,0 +1,16 @@
+package org.ulpgc.matrix.outofcore;
+
+public record OutOfCoreStats(long bytesRead, long bytesWritten, double flops, long elapsedNanos) {
+
+    public double seconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public double gflops() {
+        return elapsedNanos == 0 ? 0.0 : flops / elapsedNanos;
+    }
+
+    public double bandwidthGBs() {
+        return elapsedNanos == 0 ? 0.0 : (double) (bytesRead + bytesWritten) / elapsedNanos;
+    }
+}
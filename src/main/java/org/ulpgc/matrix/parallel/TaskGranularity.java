@@ -0,0 +1,7 @@
+package org.ulpgc.matrix.parallel;
+
+public enum TaskGranularity {
+    ROW,
+    BLOCK,
+    TILE
+}
@@ -0,0 +1,23 @@
+package org.ulpgc.matrix.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public enum ThreadMode {
+    PLATFORM,
+    VIRTUAL;
+
+    public Thread start(Runnable task) {
+        return switch (this) {
+            case PLATFORM -> Thread.ofPlatform().start(task);
+            case VIRTUAL -> Thread.ofVirtual().start(task);
+        };
+    }
+
+    public ExecutorService newExecutor(int numThreads) {
+        return switch (this) {
+            case PLATFORM -> Executors.newFixedThreadPool(numThreads, Thread.ofPlatform().daemon(true).factory());
+            case VIRTUAL -> Executors.newVirtualThreadPerTaskExecutor();
+        };
+    }
+}
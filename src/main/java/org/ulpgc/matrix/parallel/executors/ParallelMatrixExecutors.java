@@ -1,46 +1,91 @@
 package org.ulpgc.matrix.parallel.executors;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 
-public class ParallelMatrixExecutors implements MatrixMultiplication {
+public class ParallelMatrixExecutors implements MatrixMultiplication, AutoCloseable {
     private final int numThreads;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
 
     public ParallelMatrixExecutors(int numThreads) {
+        this(numThreads, ThreadMode.PLATFORM);
+    }
+
+    public ParallelMatrixExecutors(int numThreads, ThreadMode threadMode) {
+        this(threadMode.newExecutor(numThreads), numThreads, true);
+    }
+
+    public ParallelMatrixExecutors(ExecutorService executor, int numThreads) {
+        this(executor, numThreads, false);
+    }
+
+    private ParallelMatrixExecutors(ExecutorService executor, int numThreads, boolean ownsExecutor) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        }
+        this.executor = executor;
         this.numThreads = numThreads;
+        this.ownsExecutor = ownsExecutor;
     }
 
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int size = matrixB.length;
         double[][] result = new double[rows][cols];
-        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
-
-        for (int i = 0; i < rows; i++) {
-            final int row = i;
-            executor.submit(() -> {
-                for (int j = 0; j < cols; j++) {
-                    double sum = 0;
-                    for (int k = 0; k < size; k++) {
-                        sum += matrixA[row][k] * matrixB[k][j];
+
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int size = matrixB.length;
+
+        int blockSize = (rows + numThreads - 1) / numThreads;
+        List<Future<?>> futures = new ArrayList<>(numThreads);
+        for (int start = 0; start < rows; start += blockSize) {
+            final int startRow = start;
+            final int endRow = Math.min(start + blockSize, rows);
+            futures.add(executor.submit(() -> {
+                for (int row = startRow; row < endRow; row++) {
+                    for (int j = 0; j < cols; j++) {
+                        double sum = 0;
+                        for (int k = 0; k < size; k++) {
+                            sum += matrixA[row][k] * matrixB[k][j];
+                        }
+                        result[row][j] = MatrixAccumulation.update(alpha, sum, beta, result[row][j]);
                     }
-                    result[row][j] = sum;
                 }
-            });
+            }));
         }
 
-        executor.shutdown();
         try {
-            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            for (Future<?> future : futures) {
+                future.get();
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Row block failed", e.getCause());
         }
+    }
 
-        return result;
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
     }
 }
@@ -0,0 +1,212 @@
+package org.ulpgc.matrix.parallel.forkjoin;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.dense.DenseMatrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ForkJoinMatrixMultiplication implements MatrixMultiplication, DenseMatrixMultiplication, AutoCloseable {
+    public static final int DEFAULT_LEAF_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int leafSize;
+
+    public ForkJoinMatrixMultiplication(int parallelism) {
+        this(new ForkJoinPool(parallelism), true, DEFAULT_LEAF_SIZE);
+    }
+
+    public ForkJoinMatrixMultiplication(ForkJoinPool pool, int leafSize) {
+        this(pool, false, leafSize);
+    }
+
+    private ForkJoinMatrixMultiplication(ForkJoinPool pool, boolean ownsPool, int leafSize) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("leafSize must be positive: " + leafSize);
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.leafSize = leafSize;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        MatrixAccumulation.scale(result, beta);
+        pool.invoke(new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                0, result.length, 0, matrixB[0].length, 0, matrixB.length));
+    }
+
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        result.fill(0.0);
+        pool.invoke(new MultiplyTask(matrixA, matrixB, result, leafSize));
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MultiplyTask extends RecursiveAction {
+        private final DenseMatrix matrixA;
+        private final DenseMatrix matrixB;
+        private final DenseMatrix result;
+        private final int leafSize;
+
+        MultiplyTask(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result, int leafSize) {
+            this.matrixA = matrixA;
+            this.matrixB = matrixB;
+            this.result = result;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = result.rows();
+            int cols = result.cols();
+            int common = matrixA.cols();
+
+            if (rows <= leafSize && cols <= leafSize && common <= leafSize) {
+                multiplyLeaf(matrixA, matrixB, result);
+                return;
+            }
+
+            if (rows >= cols && rows >= common) {
+                int half = rows / 2;
+                invokeAll(
+                        new MultiplyTask(matrixA.view(0, 0, half, common), matrixB,
+                                result.view(0, 0, half, cols), leafSize),
+                        new MultiplyTask(matrixA.view(half, 0, rows - half, common), matrixB,
+                                result.view(half, 0, rows - half, cols), leafSize));
+            } else if (cols >= common) {
+                int half = cols / 2;
+                invokeAll(
+                        new MultiplyTask(matrixA, matrixB.view(0, 0, common, half),
+                                result.view(0, 0, rows, half), leafSize),
+                        new MultiplyTask(matrixA, matrixB.view(0, half, common, cols - half),
+                                result.view(0, half, rows, cols - half), leafSize));
+            } else {
+                int half = common / 2;
+                new MultiplyTask(matrixA.view(0, 0, rows, half), matrixB.view(0, 0, half, cols),
+                        result, leafSize).compute();
+                new MultiplyTask(matrixA.view(0, half, rows, common - half), matrixB.view(half, 0, common - half, cols),
+                        result, leafSize).compute();
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ArrayMultiplyTask extends RecursiveAction {
+        private final double[][] matrixA;
+        private final double[][] matrixB;
+        private final double[][] result;
+        private final double alpha;
+        private final int leafSize;
+        private final int rowStart;
+        private final int rowEnd;
+        private final int colStart;
+        private final int colEnd;
+        private final int kStart;
+        private final int kEnd;
+
+        ArrayMultiplyTask(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, int leafSize,
+                          int rowStart, int rowEnd, int colStart, int colEnd, int kStart, int kEnd) {
+            this.matrixA = matrixA;
+            this.matrixB = matrixB;
+            this.result = result;
+            this.alpha = alpha;
+            this.leafSize = leafSize;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.colStart = colStart;
+            this.colEnd = colEnd;
+            this.kStart = kStart;
+            this.kEnd = kEnd;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowEnd - rowStart;
+            int cols = colEnd - colStart;
+            int common = kEnd - kStart;
+
+            if (rows <= leafSize && cols <= leafSize && common <= leafSize) {
+                multiplyLeaf(matrixA, matrixB, result, alpha, rowStart, rowEnd, colStart, colEnd, kStart, kEnd);
+                return;
+            }
+
+            if (rows >= cols && rows >= common) {
+                int mid = rowStart + rows / 2;
+                invokeAll(
+                        new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                                rowStart, mid, colStart, colEnd, kStart, kEnd),
+                        new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                                mid, rowEnd, colStart, colEnd, kStart, kEnd));
+            } else if (cols >= common) {
+                int mid = colStart + cols / 2;
+                invokeAll(
+                        new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                                rowStart, rowEnd, colStart, mid, kStart, kEnd),
+                        new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                                rowStart, rowEnd, mid, colEnd, kStart, kEnd));
+            } else {
+                int mid = kStart + common / 2;
+                new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                        rowStart, rowEnd, colStart, colEnd, kStart, mid).compute();
+                new ArrayMultiplyTask(matrixA, matrixB, result, alpha, leafSize,
+                        rowStart, rowEnd, colStart, colEnd, mid, kEnd).compute();
+            }
+        }
+    }
+
+    private static void multiplyLeaf(double[][] matrixA, double[][] matrixB, double[][] result, double alpha,
+                                     int rowStart, int rowEnd, int colStart, int colEnd, int kStart, int kEnd) {
+        for (int i = rowStart; i < rowEnd; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            for (int k = kStart; k < kEnd; k++) {
+                double value = alpha * rowA[k];
+                double[] rowB = matrixB[k];
+                for (int j = colStart; j < colEnd; j++) {
+                    rowC[j] += value * rowB[j];
+                }
+            }
+        }
+    }
+
+    private static void multiplyLeaf(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        int rows = result.rows();
+        int cols = result.cols();
+        int common = matrixA.cols();
+        double[] a = matrixA.data();
+        double[] b = matrixB.data();
+        double[] c = result.data();
+
+        for (int i = 0; i < rows; i++) {
+            int rowA = matrixA.index(i, 0);
+            int rowC = result.index(i, 0);
+            for (int k = 0; k < common; k++) {
+                double value = a[rowA + k];
+                int rowB = matrixB.index(k, 0);
+                for (int j = 0; j < cols; j++) {
+                    c[rowC + j] += value * b[rowB + j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.ulpgc.matrix.parallel.splitk;
+
+public enum ReductionStrategy {
+    STRIPED_LOCKS,
+    DOUBLE_ADDER,
+    CAS,
+    TREE
+}
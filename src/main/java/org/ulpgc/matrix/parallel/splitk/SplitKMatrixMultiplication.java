@@ -0,0 +1,324 @@
+package org.ulpgc.matrix.parallel.splitk;
+
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
+
+import java.util.Arrays;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SplitKMatrixMultiplication implements MatrixMultiplication {
+    public static final int TILE_SIZE = 64;
+    private static final int LOCK_STRIPES = 64;
+
+    private final int numThreads;
+    private final ReductionStrategy strategy;
+    private final ThreadMode threadMode;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    public SplitKMatrixMultiplication(int numThreads, ReductionStrategy strategy) {
+        this(numThreads, strategy, ThreadMode.PLATFORM);
+    }
+
+    public SplitKMatrixMultiplication(int numThreads, ReductionStrategy strategy, ThreadMode threadMode) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        }
+        this.numThreads = numThreads;
+        this.strategy = strategy;
+        this.threadMode = threadMode;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        double[][] result = new double[rows][cols];
+
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        MatrixAccumulation.scale(result, beta);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+
+        Scratch buffers = scratch.get();
+        Reducer reducer = switch (strategy) {
+            case STRIPED_LOCKS -> new StripedLockReducer(result, locks);
+            case DOUBLE_ADDER -> new DoubleAdderReducer(buffers.adders(rows * cols), cols);
+            case CAS -> new CasReducer(buffers.cells(rows * cols), cols);
+            case TREE -> new TreeReducer(buffers.partials(numThreads, rows * cols), rows * cols, cols,
+                    buffers.barrier(numThreads));
+        };
+        double[][] tiles = buffers.tiles(numThreads);
+
+        int chunkSize = (common + numThreads - 1) / numThreads;
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int worker = t;
+            final int startK = Math.min(t * chunkSize, common);
+            final int endK = Math.min(startK + chunkSize, common);
+
+            threads[t] = threadMode.start(() -> {
+                double[] partial = tiles[worker];
+                for (int rowStart = 0; rowStart < rows; rowStart += TILE_SIZE) {
+                    int tileRows = Math.min(TILE_SIZE, rows - rowStart);
+                    for (int colStart = 0; colStart < cols; colStart += TILE_SIZE) {
+                        int tileCols = Math.min(TILE_SIZE, cols - colStart);
+                        computePartial(matrixA, matrixB, alpha, partial, rowStart, tileRows, colStart, tileCols, startK, endK);
+                        reducer.accumulate(worker, partial, rowStart, tileRows, colStart, tileCols);
+                    }
+                }
+                reducer.finish(worker);
+            });
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        reducer.writeTo(result);
+    }
+
+    private static void computePartial(double[][] matrixA, double[][] matrixB, double alpha, double[] partial,
+                                       int rowStart, int tileRows, int colStart, int tileCols, int startK, int endK) {
+        Arrays.fill(partial, 0, tileRows * TILE_SIZE, 0.0);
+        for (int i = 0; i < tileRows; i++) {
+            double[] rowA = matrixA[rowStart + i];
+            int base = i * TILE_SIZE;
+            for (int k = startK; k < endK; k++) {
+                double a = alpha * rowA[k];
+                double[] rowB = matrixB[k];
+                for (int j = 0; j < tileCols; j++) {
+                    partial[base + j] += a * rowB[colStart + j];
+                }
+            }
+        }
+    }
+
+    private interface Reducer {
+        void accumulate(int worker, double[] partial, int rowStart, int tileRows, int colStart, int tileCols);
+
+        default void finish(int worker) {
+        }
+
+        void writeTo(double[][] result);
+    }
+
+    private static final class Scratch {
+        private double[][] tiles = new double[0][];
+        private DoubleAdder[] adders = new DoubleAdder[0];
+        private AtomicLongArray cells = new AtomicLongArray(0);
+        private double[][] partials = new double[0][0];
+        private CyclicBarrier barrier;
+
+        double[][] tiles(int workers) {
+            if (tiles.length < workers) {
+                tiles = new double[workers][TILE_SIZE * TILE_SIZE];
+            }
+            return tiles;
+        }
+
+        DoubleAdder[] adders(int size) {
+            if (adders.length < size) {
+                adders = new DoubleAdder[size];
+                for (int i = 0; i < size; i++) {
+                    adders[i] = new DoubleAdder();
+                }
+            }
+            return adders;
+        }
+
+        AtomicLongArray cells(int size) {
+            if (cells.length() < size) {
+                cells = new AtomicLongArray(size);
+            }
+            return cells;
+        }
+
+        double[][] partials(int workers, int size) {
+            if (partials.length != workers || partials[0].length < size) {
+                partials = new double[workers][size];
+            }
+            return partials;
+        }
+
+        CyclicBarrier barrier(int workers) {
+            if (barrier == null || barrier.getParties() != workers || barrier.isBroken()) {
+                barrier = new CyclicBarrier(workers);
+            }
+            return barrier;
+        }
+    }
+
+    private static final class StripedLockReducer implements Reducer {
+        private final double[][] result;
+        private final ReentrantLock[] locks;
+
+        StripedLockReducer(double[][] result, ReentrantLock[] locks) {
+            this.result = result;
+            this.locks = locks;
+        }
+
+        @Override
+        public void accumulate(int worker, double[] partial, int rowStart, int tileRows, int colStart, int tileCols) {
+            ReentrantLock lock = locks[(31 * (rowStart / TILE_SIZE) + colStart / TILE_SIZE) % LOCK_STRIPES];
+            lock.lock();
+            try {
+                for (int i = 0; i < tileRows; i++) {
+                    double[] rowC = result[rowStart + i];
+                    for (int j = 0; j < tileCols; j++) {
+                        rowC[colStart + j] += partial[i * TILE_SIZE + j];
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void writeTo(double[][] result) {
+        }
+    }
+
+    private static final class DoubleAdderReducer implements Reducer {
+        private final DoubleAdder[] adders;
+        private final int cols;
+
+        DoubleAdderReducer(DoubleAdder[] adders, int cols) {
+            this.adders = adders;
+            this.cols = cols;
+        }
+
+        @Override
+        public void accumulate(int worker, double[] partial, int rowStart, int tileRows, int colStart, int tileCols) {
+            for (int i = 0; i < tileRows; i++) {
+                int base = (rowStart + i) * cols + colStart;
+                for (int j = 0; j < tileCols; j++) {
+                    adders[base + j].add(partial[i * TILE_SIZE + j]);
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(double[][] result) {
+            for (int i = 0; i < result.length; i++) {
+                for (int j = 0; j < cols; j++) {
+                    result[i][j] += adders[i * cols + j].sumThenReset();
+                }
+            }
+        }
+    }
+
+    private static final class CasReducer implements Reducer {
+        private final AtomicLongArray cells;
+        private final int cols;
+
+        CasReducer(AtomicLongArray cells, int cols) {
+            this.cells = cells;
+            this.cols = cols;
+        }
+
+        @Override
+        public void accumulate(int worker, double[] partial, int rowStart, int tileRows, int colStart, int tileCols) {
+            for (int i = 0; i < tileRows; i++) {
+                int base = (rowStart + i) * cols + colStart;
+                for (int j = 0; j < tileCols; j++) {
+                    double delta = partial[i * TILE_SIZE + j];
+                    int index = base + j;
+                    long current;
+                    long updated;
+                    do {
+                        current = cells.get(index);
+                        updated = Double.doubleToRawLongBits(Double.longBitsToDouble(current) + delta);
+                    } while (!cells.compareAndSet(index, current, updated));
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(double[][] result) {
+            for (int i = 0; i < result.length; i++) {
+                for (int j = 0; j < cols; j++) {
+                    result[i][j] += Double.longBitsToDouble(cells.getAndSet(i * cols + j, 0L));
+                }
+            }
+        }
+    }
+
+    private static final class TreeReducer implements Reducer {
+        private final double[][] partials;
+        private final int size;
+        private final int cols;
+        private final CyclicBarrier barrier;
+
+        TreeReducer(double[][] partials, int size, int cols, CyclicBarrier barrier) {
+            this.partials = partials;
+            this.size = size;
+            this.cols = cols;
+            this.barrier = barrier;
+        }
+
+        @Override
+        public void accumulate(int worker, double[] partial, int rowStart, int tileRows, int colStart, int tileCols) {
+            double[] local = partials[worker];
+            for (int i = 0; i < tileRows; i++) {
+                int base = (rowStart + i) * cols + colStart;
+                for (int j = 0; j < tileCols; j++) {
+                    local[base + j] = partial[i * TILE_SIZE + j];
+                }
+            }
+        }
+
+        @Override
+        public void finish(int worker) {
+            int workers = partials.length;
+            for (int stride = 1; stride < workers; stride *= 2) {
+                try {
+                    barrier.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (BrokenBarrierException e) {
+                    return;
+                }
+                if (worker % (2 * stride) == 0 && worker + stride < workers) {
+                    double[] target = partials[worker];
+                    double[] source = partials[worker + stride];
+                    for (int i = 0; i < size; i++) {
+                        target[i] += source[i];
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void writeTo(double[][] result) {
+            double[] total = partials[0];
+            for (int i = 0; i < result.length; i++) {
+                double[] row = result[i];
+                int base = i * cols;
+                for (int j = 0; j < cols; j++) {
+                    row[j] += total[base + j];
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.ulpgc.matrix.parallel.streams;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
 
 import java.util.stream.IntStream;
@@ -9,19 +10,27 @@ public class ParallelMatrixStreams implements MatrixMultiplication {
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int size = matrixB.length;
         double[][] result = new double[rows][cols];
 
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int size = matrixB.length;
+
         IntStream.range(0, rows).parallel().forEach(i -> {
             for (int j = 0; j < cols; j++) {
                 double sum = 0;
                 for (int k = 0; k < size; k++) {
                     sum += matrixA[i][k] * matrixB[k][j];
                 }
-                result[i][j] = sum;
+                result[i][j] = MatrixAccumulation.update(alpha, sum, beta, result[i][j]);
             }
         });
-
-        return result;
     }
 }
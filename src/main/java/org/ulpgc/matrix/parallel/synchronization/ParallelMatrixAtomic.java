@@ -1,34 +1,59 @@
 package org.ulpgc.matrix.parallel.synchronization;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
 
-import java.util.concurrent.atomic.DoubleAdder;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
 public class ParallelMatrixAtomic implements MatrixMultiplication {
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private final ThreadMode threadMode;
+
+    public ParallelMatrixAtomic() {
+        this(ThreadMode.PLATFORM);
+    }
+
+    public ParallelMatrixAtomic(ThreadMode threadMode) {
+        this.threadMode = threadMode;
+    }
+
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int common = matrixB.length;
+        double[][] result = new double[rows][cols];
 
-        DoubleAdder[][] result = new DoubleAdder[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                result[i][j] = new DoubleAdder();
-            }
-        }
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
 
         Thread[] threads = new Thread[rows];
         for (int i = 0; i < rows; i++) {
             final int row = i;
-            threads[i] = new Thread(() -> {
+            threads[i] = threadMode.start(() -> {
+                double[] rowC = result[row];
                 for (int j = 0; j < cols; j++) {
+                    double sum = 0;
                     for (int k = 0; k < common; k++) {
-                        result[row][j].add(matrixA[row][k] * matrixB[k][j]);
+                        sum += matrixA[row][k] * matrixB[k][j];
                     }
+                    double current;
+                    do {
+                        current = (double) ELEMENT.getVolatile(rowC, j);
+                    } while (!ELEMENT.compareAndSet(rowC, j, current,
+                            MatrixAccumulation.update(alpha, sum, beta, current)));
                 }
             });
-            threads[i].start();
         }
 
         for (Thread thread : threads) {
@@ -38,14 +63,5 @@ public class ParallelMatrixAtomic implements MatrixMultiplication {
                 Thread.currentThread().interrupt();
             }
         }
-
-        double[][] finalResult = new double[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                finalResult[i][j] = result[i][j].sum();
-            }
-        }
-
-        return finalResult;
     }
 }
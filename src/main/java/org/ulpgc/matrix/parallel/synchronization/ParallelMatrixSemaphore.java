@@ -1,27 +1,51 @@
 package org.ulpgc.matrix.parallel.synchronization;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
 import java.util.concurrent.Semaphore;
 
 public class ParallelMatrixSemaphore implements MatrixMultiplication {
+    private final ThreadMode threadMode;
+
+    public ParallelMatrixSemaphore() {
+        this(ThreadMode.PLATFORM);
+    }
+
+    public ParallelMatrixSemaphore(ThreadMode threadMode) {
+        this.threadMode = threadMode;
+    }
+
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int common = matrixB.length;
         double[][] result = new double[rows][cols];
+
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
         Semaphore semaphore = new Semaphore(1);
 
         Thread[] threads = new Thread[rows];
         for (int i = 0; i < rows; i++) {
             final int row = i;
-            threads[i] = new Thread(() -> {
+            threads[i] = threadMode.start(() -> {
                 for (int j = 0; j < cols; j++) {
                     try {
                         semaphore.acquire();
+                        double sum = 0;
                         for (int k = 0; k < common; k++) {
-                            result[row][j] += matrixA[row][k] * matrixB[k][j];
+                            sum += matrixA[row][k] * matrixB[k][j];
                         }
+                        result[row][j] = MatrixAccumulation.update(alpha, sum, beta, result[row][j]);
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                     } finally {
@@ -29,7 +53,6 @@ public class ParallelMatrixSemaphore implements MatrixMultiplication {
                     }
                 }
             });
-            threads[i].start();
         }
 
         for (Thread thread : threads) {
@@ -39,7 +62,5 @@ public class ParallelMatrixSemaphore implements MatrixMultiplication {
                 Thread.currentThread().interrupt();
             }
         }
-
-        return result;
     }
 }
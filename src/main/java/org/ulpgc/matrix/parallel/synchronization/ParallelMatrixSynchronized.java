@@ -1,28 +1,51 @@
 package org.ulpgc.matrix.parallel.synchronization;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
 
 public class ParallelMatrixSynchronized implements MatrixMultiplication {
+    private final ThreadMode threadMode;
+
+    public ParallelMatrixSynchronized() {
+        this(ThreadMode.PLATFORM);
+    }
+
+    public ParallelMatrixSynchronized(ThreadMode threadMode) {
+        this.threadMode = threadMode;
+    }
+
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int common = matrixB.length;
         double[][] result = new double[rows][cols];
 
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+
         Thread[] threads = new Thread[rows];
         for (int i = 0; i < rows; i++) {
             final int row = i;
-            threads[i] = new Thread(() -> {
+            threads[i] = threadMode.start(() -> {
                 for (int j = 0; j < cols; j++) {
                     synchronized (result) {
+                        double sum = 0;
                         for (int k = 0; k < common; k++) {
-                            result[row][j] += matrixA[row][k] * matrixB[k][j];
+                            sum += matrixA[row][k] * matrixB[k][j];
                         }
+                        result[row][j] = MatrixAccumulation.update(alpha, sum, beta, result[row][j]);
                     }
                 }
             });
-            threads[i].start();
         }
 
         for (Thread thread : threads) {
@@ -32,7 +55,5 @@ public class ParallelMatrixSynchronized implements MatrixMultiplication {
                 Thread.currentThread().interrupt();
             }
         }
-
-        return result;
     }
 }
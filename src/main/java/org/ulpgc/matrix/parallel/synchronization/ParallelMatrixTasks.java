@@ -0,0 +1,80 @@
+package org.ulpgc.matrix.parallel.synchronization;
+
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.TaskGranularity;
+import org.ulpgc.matrix.parallel.ThreadMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ParallelMatrixTasks implements MatrixMultiplication {
+    public static final int TILE_SIZE = 64;
+
+    private final ThreadMode threadMode;
+    private final TaskGranularity granularity;
+
+    public ParallelMatrixTasks(ThreadMode threadMode, TaskGranularity granularity) {
+        this.threadMode = threadMode;
+        this.granularity = granularity;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        double[][] result = new double[rows][cols];
+
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+
+        int blockRows = switch (granularity) {
+            case ROW -> 1;
+            case BLOCK -> Math.max(1, (rows + cores() - 1) / cores());
+            case TILE -> TILE_SIZE;
+        };
+        int blockCols = granularity == TaskGranularity.TILE ? TILE_SIZE : cols;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int rowStart = 0; rowStart < rows; rowStart += blockRows) {
+            for (int colStart = 0; colStart < cols; colStart += blockCols) {
+                final int startRow = rowStart;
+                final int endRow = Math.min(rowStart + blockRows, rows);
+                final int startCol = colStart;
+                final int endCol = Math.min(colStart + blockCols, cols);
+
+                threads.add(threadMode.start(() -> {
+                    for (int i = startRow; i < endRow; i++) {
+                        for (int j = startCol; j < endCol; j++) {
+                            double sum = 0;
+                            for (int k = 0; k < common; k++) {
+                                sum += matrixA[i][k] * matrixB[k][j];
+                            }
+                            result[i][j] = MatrixAccumulation.update(alpha, sum, beta, result[i][j]);
+                        }
+                    }
+                }));
+            }
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static int cores() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -1,18 +1,39 @@
 package org.ulpgc.matrix.parallel.synchronization;
 
-public class ParallelMatrixThreads {
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
+
+public class ParallelMatrixThreads implements MatrixMultiplication {
     private final int numThreads;
+    private final ThreadMode threadMode;
 
     public ParallelMatrixThreads(int numThreads) {
+        this(numThreads, ThreadMode.PLATFORM);
+    }
+
+    public ParallelMatrixThreads(int numThreads, ThreadMode threadMode) {
         this.numThreads = numThreads;
+        this.threadMode = threadMode;
     }
 
+    @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
         int rows = matrixA.length;
         int cols = matrixB[0].length;
-        int common = matrixB.length;
         double[][] result = new double[rows][cols];
 
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+
         Thread[] threads = new Thread[numThreads];
         int chunkSize = rows / numThreads;
 
@@ -20,18 +41,17 @@ public class ParallelMatrixThreads {
             final int startRow = t * chunkSize;
             final int endRow = (t == numThreads - 1) ? rows : startRow + chunkSize;
 
-            threads[t] = new Thread(() -> {
+            threads[t] = threadMode.start(() -> {
                 for (int i = startRow; i < endRow; i++) {
                     for (int j = 0; j < cols; j++) {
                         double sum = 0;
                         for (int k = 0; k < common; k++) {
                             sum += matrixA[i][k] * matrixB[k][j];
                         }
-                        result[i][j] = sum;
+                        result[i][j] = MatrixAccumulation.update(alpha, sum, beta, result[i][j]);
                     }
                 }
             });
-            threads[t].start();
         }
 
         for (Thread thread : threads) {
@@ -41,7 +61,5 @@ public class ParallelMatrixThreads {
                 e.printStackTrace();
             }
         }
-
-        return result;
     }
 }
@@ -0,0 +1,25 @@
+package org.ulpgc.matrix.precision;
+
+import org.ulpgc.matrix.FloatMatrixMultiplication;
+
+public class BasicFloatMatrixMultiplication implements FloatMatrixMultiplication {
+    @Override
+    public float[][] multiply(float[][] matrixA, float[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+
+        float[][] result = new float[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                float sum = 0;
+                for (int k = 0; k < common; k++) {
+                    sum += matrixA[i][k] * matrixB[k][j];
+                }
+                result[i][j] = sum;
+            }
+        }
+        return result;
+    }
+}
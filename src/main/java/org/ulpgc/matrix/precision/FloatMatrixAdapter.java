@@ -0,0 +1,39 @@
+package org.ulpgc.matrix.precision;
+
+import org.ulpgc.matrix.FloatMatrixMultiplication;
+import org.ulpgc.matrix.MatrixMultiplication;
+
+public class FloatMatrixAdapter implements MatrixMultiplication {
+    private final FloatMatrixMultiplication delegate;
+
+    public FloatMatrixAdapter(FloatMatrixMultiplication delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        return toDouble(delegate.multiply(toFloat(matrixA), toFloat(matrixB)));
+    }
+
+    public static float[][] toFloat(double[][] matrix) {
+        float[][] result = new float[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            result[i] = new float[matrix[i].length];
+            for (int j = 0; j < matrix[i].length; j++) {
+                result[i][j] = (float) matrix[i][j];
+            }
+        }
+        return result;
+    }
+
+    public static double[][] toDouble(float[][] matrix) {
+        double[][] result = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            result[i] = new double[matrix[i].length];
+            for (int j = 0; j < matrix[i].length; j++) {
+                result[i][j] = matrix[i][j];
+            }
+        }
+        return result;
+    }
+}
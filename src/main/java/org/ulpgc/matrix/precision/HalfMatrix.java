@@ -0,0 +1,68 @@
+package org.ulpgc.matrix.precision;
+
+public final class HalfMatrix {
+    private final short[] data;
+    private final int rows;
+    private final int cols;
+
+    public HalfMatrix(int rows, int cols) {
+        this.data = new short[Math.multiplyExact(rows, cols)];
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    public static HalfMatrix fromArray(float[][] matrix) {
+        HalfMatrix half = new HalfMatrix(matrix.length, matrix.length == 0 ? 0 : matrix[0].length);
+        for (int i = 0; i < half.rows; i++) {
+            for (int j = 0; j < half.cols; j++) {
+                half.data[i * half.cols + j] = Float.floatToFloat16(matrix[i][j]);
+            }
+        }
+        return half;
+    }
+
+    public static HalfMatrix fromArray(double[][] matrix) {
+        HalfMatrix half = new HalfMatrix(matrix.length, matrix.length == 0 ? 0 : matrix[0].length);
+        for (int i = 0; i < half.rows; i++) {
+            for (int j = 0; j < half.cols; j++) {
+                half.data[i * half.cols + j] = Float.floatToFloat16((float) matrix[i][j]);
+            }
+        }
+        return half;
+    }
+
+    public float[][] toArray() {
+        float[][] matrix = new float[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            widenRow(i, 0, cols, matrix[i], 0);
+        }
+        return matrix;
+    }
+
+    public void widenRow(int row, int colStart, int length, float[] target, int targetOffset) {
+        int offset = row * cols + colStart;
+        for (int j = 0; j < length; j++) {
+            target[targetOffset + j] = Float.float16ToFloat(data[offset + j]);
+        }
+    }
+
+    public float get(int row, int col) {
+        return Float.float16ToFloat(data[row * cols + col]);
+    }
+
+    public void set(int row, int col, float value) {
+        data[row * cols + col] = Float.floatToFloat16(value);
+    }
+
+    public long bytes() {
+        return (long) data.length * Short.BYTES;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+}
@@ -0,0 +1,56 @@
+package org.ulpgc.matrix.precision;
+
+import org.ulpgc.matrix.FloatMatrixMultiplication;
+
+import java.util.stream.IntStream;
+
+public class HalfPrecisionMatrixMultiplication implements FloatMatrixMultiplication {
+    private static final int PANEL_ROWS = 256;
+
+    private final boolean parallel;
+
+    public HalfPrecisionMatrixMultiplication() {
+        this(false);
+    }
+
+    public HalfPrecisionMatrixMultiplication(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public float[][] multiply(float[][] matrixA, float[][] matrixB) {
+        return multiply(HalfMatrix.fromArray(matrixA), HalfMatrix.fromArray(matrixB));
+    }
+
+    public float[][] multiply(HalfMatrix matrixA, HalfMatrix matrixB) {
+        if (matrixA.cols() != matrixB.rows()) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows() + "x" + matrixA.cols()
+                    + " * " + matrixB.rows() + "x" + matrixB.cols());
+        }
+
+        int rows = matrixA.rows();
+        int cols = matrixB.cols();
+        int common = matrixA.cols();
+        float[][] result = new float[rows][cols];
+        float[] panel = new float[Math.min(PANEL_ROWS, common) * cols];
+
+        for (int kStart = 0; kStart < common; kStart += PANEL_ROWS) {
+            int panelRows = Math.min(PANEL_ROWS, common - kStart);
+            for (int k = 0; k < panelRows; k++) {
+                matrixB.widenRow(kStart + k, 0, cols, panel, k * cols);
+            }
+
+            int panelStart = kStart;
+            IntStream rowRange = IntStream.range(0, rows);
+            (parallel ? rowRange.parallel() : rowRange).forEach(i -> {
+                float[] rowC = result[i];
+                for (int k = 0; k < panelRows; k++) {
+                    float value = matrixA.get(i, panelStart + k);
+                    VectorizedFloatMatrixMultiplication.multiplyAddRow(value, panel, k * cols, rowC, cols);
+                }
+            });
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package org.ulpgc.matrix.precision;
+
+import org.ulpgc.matrix.FloatMatrixMultiplication;
+
+import java.util.stream.IntStream;
+
+public class ParallelFloatMatrixMultiplication implements FloatMatrixMultiplication {
+    @Override
+    public float[][] multiply(float[][] matrixA, float[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+        float[][] result = new float[rows][cols];
+
+        IntStream.range(0, rows).parallel().forEach(i -> {
+            float[] rowA = matrixA[i];
+            float[] rowC = result[i];
+            for (int k = 0; k < common; k++) {
+                float value = rowA[k];
+                float[] rowB = matrixB[k];
+                for (int j = 0; j < cols; j++) {
+                    rowC[j] += value * rowB[j];
+                }
+            }
+        });
+
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package org.ulpgc.matrix.precision;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+import org.ulpgc.matrix.FloatMatrixMultiplication;
+
+import java.util.stream.IntStream;
+
+public class VectorizedFloatMatrixMultiplication implements FloatMatrixMultiplication {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final int ROWS_PER_GROUP = 4;
+
+    private final boolean parallel;
+
+    public VectorizedFloatMatrixMultiplication() {
+        this(false);
+    }
+
+    public VectorizedFloatMatrixMultiplication(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public float[][] multiply(float[][] matrixA, float[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+        float[][] result = new float[rows][cols];
+
+        int groups = (rows + ROWS_PER_GROUP - 1) / ROWS_PER_GROUP;
+        IntStream rowGroups = IntStream.range(0, groups);
+        (parallel ? rowGroups.parallel() : rowGroups).forEach(group -> {
+            int rowStart = group * ROWS_PER_GROUP;
+            if (rowStart + ROWS_PER_GROUP <= rows) {
+                multiplyRowGroup(matrixA, matrixB, result, rowStart);
+            } else {
+                for (int i = rowStart; i < rows; i++) {
+                    for (int k = 0; k < common; k++) {
+                        multiplyAddRow(matrixA[i][k], matrixB[k], 0, result[i], cols);
+                    }
+                }
+            }
+        });
+
+        return result;
+    }
+
+    private static void multiplyRowGroup(float[][] matrixA, float[][] matrixB, float[][] result, int rowStart) {
+        float[] rowA0 = matrixA[rowStart];
+        float[] rowA1 = matrixA[rowStart + 1];
+        float[] rowA2 = matrixA[rowStart + 2];
+        float[] rowA3 = matrixA[rowStart + 3];
+        int cols = result[rowStart].length;
+        int common = matrixB.length;
+        int lanes = SPECIES.length();
+
+        int fullCols = cols - cols % (2 * lanes);
+        for (int j = 0; j < fullCols; j += 2 * lanes) {
+            FloatVector c00 = FloatVector.zero(SPECIES);
+            FloatVector c01 = FloatVector.zero(SPECIES);
+            FloatVector c10 = FloatVector.zero(SPECIES);
+            FloatVector c11 = FloatVector.zero(SPECIES);
+            FloatVector c20 = FloatVector.zero(SPECIES);
+            FloatVector c21 = FloatVector.zero(SPECIES);
+            FloatVector c30 = FloatVector.zero(SPECIES);
+            FloatVector c31 = FloatVector.zero(SPECIES);
+
+            for (int k = 0; k < common; k++) {
+                float[] rowB = matrixB[k];
+                FloatVector b0 = FloatVector.fromArray(SPECIES, rowB, j);
+                FloatVector b1 = FloatVector.fromArray(SPECIES, rowB, j + lanes);
+
+                FloatVector a0 = FloatVector.broadcast(SPECIES, rowA0[k]);
+                c00 = a0.fma(b0, c00);
+                c01 = a0.fma(b1, c01);
+                FloatVector a1 = FloatVector.broadcast(SPECIES, rowA1[k]);
+                c10 = a1.fma(b0, c10);
+                c11 = a1.fma(b1, c11);
+                FloatVector a2 = FloatVector.broadcast(SPECIES, rowA2[k]);
+                c20 = a2.fma(b0, c20);
+                c21 = a2.fma(b1, c21);
+                FloatVector a3 = FloatVector.broadcast(SPECIES, rowA3[k]);
+                c30 = a3.fma(b0, c30);
+                c31 = a3.fma(b1, c31);
+            }
+
+            c00.intoArray(result[rowStart], j);
+            c01.intoArray(result[rowStart], j + lanes);
+            c10.intoArray(result[rowStart + 1], j);
+            c11.intoArray(result[rowStart + 1], j + lanes);
+            c20.intoArray(result[rowStart + 2], j);
+            c21.intoArray(result[rowStart + 2], j + lanes);
+            c30.intoArray(result[rowStart + 3], j);
+            c31.intoArray(result[rowStart + 3], j + lanes);
+        }
+
+        if (fullCols < cols) {
+            for (int i = rowStart; i < rowStart + ROWS_PER_GROUP; i++) {
+                float[] rowC = result[i];
+                for (int k = 0; k < common; k++) {
+                    multiplyAddTail(matrixA[i][k], matrixB[k], rowC, fullCols, cols);
+                }
+            }
+        }
+    }
+
+    private static void multiplyAddTail(float value, float[] rowB, float[] rowC, int colStart, int cols) {
+        FloatVector broadcast = FloatVector.broadcast(SPECIES, value);
+        for (int j = colStart; j < cols; j += SPECIES.length()) {
+            VectorMask<Float> mask = SPECIES.indexInRange(j, cols);
+            FloatVector vectorB = FloatVector.fromArray(SPECIES, rowB, j, mask);
+            FloatVector vectorC = FloatVector.fromArray(SPECIES, rowC, j, mask);
+            broadcast.fma(vectorB, vectorC).intoArray(rowC, j, mask);
+        }
+    }
+
+    static void multiplyAddRow(float value, float[] rowB, int offsetB, float[] rowC, int cols) {
+        FloatVector broadcast = FloatVector.broadcast(SPECIES, value);
+        int j = 0;
+        for (; j < SPECIES.loopBound(cols); j += SPECIES.length()) {
+            FloatVector vectorB = FloatVector.fromArray(SPECIES, rowB, offsetB + j);
+            FloatVector vectorC = FloatVector.fromArray(SPECIES, rowC, j);
+            broadcast.fma(vectorB, vectorC).intoArray(rowC, j);
+        }
+        if (j < cols) {
+            VectorMask<Float> mask = SPECIES.indexInRange(j, cols);
+            FloatVector vectorB = FloatVector.fromArray(SPECIES, rowB, offsetB + j, mask);
+            FloatVector vectorC = FloatVector.fromArray(SPECIES, rowC, j, mask);
+            broadcast.fma(vectorB, vectorC).intoArray(rowC, j, mask);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.ulpgc.matrix.quantized;
+
+import org.ulpgc.matrix.IntegerMatrixMultiplication;
+
+public class BasicIntegerMatrixMultiplication implements IntegerMatrixMultiplication {
+    @Override
+    public int[][] multiply(byte[][] matrixA, byte[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+
+        int[][] result = new int[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int sum = 0;
+                for (int k = 0; k < common; k++) {
+                    sum += matrixA[i][k] * matrixB[k][j];
+                }
+                result[i][j] = sum;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package org.ulpgc.matrix.quantized;
+
+import org.ulpgc.matrix.IntegerMatrixMultiplication;
+
+import java.util.stream.IntStream;
+
+public class ParallelIntegerMatrixMultiplication implements IntegerMatrixMultiplication {
+    @Override
+    public int[][] multiply(byte[][] matrixA, byte[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int common = matrixB.length;
+        int[][] result = new int[rows][cols];
+
+        IntStream.range(0, rows).parallel().forEach(i -> {
+            byte[] rowA = matrixA[i];
+            int[] rowC = result[i];
+            for (int k = 0; k < common; k++) {
+                int value = rowA[k];
+                byte[] rowB = matrixB[k];
+                for (int j = 0; j < cols; j++) {
+                    rowC[j] += value * rowB[j];
+                }
+            }
+        });
+
+        return result;
+    }
+}
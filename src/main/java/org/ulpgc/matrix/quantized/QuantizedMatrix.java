@@ -0,0 +1,88 @@
+package org.ulpgc.matrix.quantized;
+
+public final class QuantizedMatrix {
+    private static final int MIN_VALUE = Byte.MIN_VALUE;
+    private static final int MAX_VALUE = Byte.MAX_VALUE;
+
+    private final byte[][] values;
+    private final double scale;
+    private final int zeroPoint;
+
+    public QuantizedMatrix(byte[][] values, double scale, int zeroPoint) {
+        if (!(scale > 0.0) || zeroPoint < MIN_VALUE || zeroPoint > MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid quantization parameters: scale=" + scale
+                    + ", zeroPoint=" + zeroPoint);
+        }
+        this.values = values;
+        this.scale = scale;
+        this.zeroPoint = zeroPoint;
+    }
+
+    public static QuantizedMatrix quantize(double[][] matrix) {
+        double min = 0.0;
+        double max = 0.0;
+        for (double[] row : matrix) {
+            for (double value : row) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        double scale = max > min ? (max - min) / (MAX_VALUE - MIN_VALUE) : 1.0;
+        int zeroPoint = clamp(Math.round(MIN_VALUE - min / scale));
+        return quantize(matrix, scale, zeroPoint);
+    }
+
+    public static QuantizedMatrix quantize(double[][] matrix, double scale, int zeroPoint) {
+        byte[][] values = new byte[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            values[i] = new byte[matrix[i].length];
+            for (int j = 0; j < matrix[i].length; j++) {
+                values[i][j] = (byte) clamp(Math.round(matrix[i][j] / scale) + zeroPoint);
+            }
+        }
+        return new QuantizedMatrix(values, scale, zeroPoint);
+    }
+
+    public double[][] dequantize() {
+        double[][] matrix = new double[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            matrix[i] = new double[values[i].length];
+            for (int j = 0; j < values[i].length; j++) {
+                matrix[i][j] = get(i, j);
+            }
+        }
+        return matrix;
+    }
+
+    public double get(int row, int col) {
+        return scale * (values[row][col] - zeroPoint);
+    }
+
+    public byte[][] values() {
+        return values;
+    }
+
+    public double scale() {
+        return scale;
+    }
+
+    public int zeroPoint() {
+        return zeroPoint;
+    }
+
+    public int rows() {
+        return values.length;
+    }
+
+    public int cols() {
+        return values.length == 0 ? 0 : values[0].length;
+    }
+
+    public long bytes() {
+        return (long) rows() * cols();
+    }
+
+    private static int clamp(long value) {
+        return (int) Math.max(MIN_VALUE, Math.min(MAX_VALUE, value));
+    }
+}
@@ -0,0 +1,58 @@
+package org.ulpgc.matrix.quantized;
+
+import org.ulpgc.matrix.IntegerMatrixMultiplication;
+import org.ulpgc.matrix.MatrixMultiplication;
+
+public class QuantizedMatrixAdapter implements MatrixMultiplication {
+    private final IntegerMatrixMultiplication delegate;
+
+    public QuantizedMatrixAdapter(IntegerMatrixMultiplication delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        return multiply(QuantizedMatrix.quantize(matrixA), QuantizedMatrix.quantize(matrixB));
+    }
+
+    public double[][] multiply(QuantizedMatrix matrixA, QuantizedMatrix matrixB) {
+        if (matrixA.cols() != matrixB.rows()) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows() + "x" + matrixA.cols()
+                    + " * " + matrixB.rows() + "x" + matrixB.cols());
+        }
+        int[][] product = delegate.multiply(matrixA.values(), matrixB.values());
+        return dequantize(product, matrixA, matrixB);
+    }
+
+    public static double[][] dequantize(int[][] product, QuantizedMatrix matrixA, QuantizedMatrix matrixB) {
+        int rows = matrixA.rows();
+        int cols = matrixB.cols();
+        int common = matrixA.cols();
+        long zeroA = matrixA.zeroPoint();
+        long zeroB = matrixB.zeroPoint();
+        double scale = matrixA.scale() * matrixB.scale();
+
+        long[] rowSums = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            for (byte value : matrixA.values()[i]) {
+                rowSums[i] += value;
+            }
+        }
+        long[] colSums = new long[cols];
+        for (byte[] row : matrixB.values()) {
+            for (int j = 0; j < cols; j++) {
+                colSums[j] += row[j];
+            }
+        }
+
+        double[][] result = new double[rows][cols];
+        long offset = common * zeroA * zeroB;
+        for (int i = 0; i < rows; i++) {
+            long rowCorrection = offset - zeroB * rowSums[i];
+            for (int j = 0; j < cols; j++) {
+                result[i][j] = scale * (product[i][j] + rowCorrection - zeroA * colSums[j]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,150 @@
+package org.ulpgc.matrix.quantized;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.ulpgc.matrix.IntegerMatrixMultiplication;
+
+import java.util.stream.IntStream;
+
+public class VectorizedIntegerMatrixMultiplication implements IntegerMatrixMultiplication {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = VectorSpecies.of(byte.class,
+            VectorShape.forBitSize(Math.max(ByteVector.SPECIES_64.vectorBitSize(), INTS.vectorBitSize() / Integer.BYTES)));
+    private static final int LANES = INTS.length();
+    private static final int PARTS = BYTES.length() / LANES;
+    private static final int ROWS_PER_GROUP = 4;
+
+    private final boolean parallel;
+
+    public VectorizedIntegerMatrixMultiplication() {
+        this(false);
+    }
+
+    public VectorizedIntegerMatrixMultiplication(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public int[][] multiply(byte[][] matrixA, byte[][] matrixB) {
+        int rows = matrixA.length;
+        int cols = matrixB[0].length;
+        int[][] result = new int[rows][cols];
+
+        int groups = (rows + ROWS_PER_GROUP - 1) / ROWS_PER_GROUP;
+        IntStream rowGroups = IntStream.range(0, groups);
+        (parallel ? rowGroups.parallel() : rowGroups).forEach(group -> {
+            int rowStart = group * ROWS_PER_GROUP;
+            if (rowStart + ROWS_PER_GROUP <= rows) {
+                multiplyRowGroup(matrixA, matrixB, result, rowStart);
+            } else {
+                for (int i = rowStart; i < rows; i++) {
+                    multiplyRow(matrixA[i], matrixB, result[i]);
+                }
+            }
+        });
+
+        return result;
+    }
+
+    private static void multiplyRowGroup(byte[][] matrixA, byte[][] matrixB, int[][] result, int rowStart) {
+        byte[] rowA0 = matrixA[rowStart];
+        byte[] rowA1 = matrixA[rowStart + 1];
+        byte[] rowA2 = matrixA[rowStart + 2];
+        byte[] rowA3 = matrixA[rowStart + 3];
+        int cols = result[rowStart].length;
+        int common = matrixB.length;
+
+        int j = 0;
+        for (; j + 2 * LANES <= cols; j += 2 * LANES) {
+            IntVector c00 = IntVector.zero(INTS);
+            IntVector c01 = IntVector.zero(INTS);
+            IntVector c10 = IntVector.zero(INTS);
+            IntVector c11 = IntVector.zero(INTS);
+            IntVector c20 = IntVector.zero(INTS);
+            IntVector c21 = IntVector.zero(INTS);
+            IntVector c30 = IntVector.zero(INTS);
+            IntVector c31 = IntVector.zero(INTS);
+
+            for (int k = 0; k < common; k++) {
+                byte[] rowB = matrixB[k];
+                IntVector b0;
+                IntVector b1;
+                if (PARTS == 2) {
+                    ByteVector bytes = ByteVector.fromArray(BYTES, rowB, j);
+                    b0 = part(bytes, 0);
+                    b1 = part(bytes, 1);
+                } else {
+                    b0 = widen(rowB, j);
+                    b1 = widen(rowB, j + LANES);
+                }
+
+                IntVector a0 = IntVector.broadcast(INTS, rowA0[k]);
+                c00 = b0.mul(a0).add(c00);
+                c01 = b1.mul(a0).add(c01);
+                IntVector a1 = IntVector.broadcast(INTS, rowA1[k]);
+                c10 = b0.mul(a1).add(c10);
+                c11 = b1.mul(a1).add(c11);
+                IntVector a2 = IntVector.broadcast(INTS, rowA2[k]);
+                c20 = b0.mul(a2).add(c20);
+                c21 = b1.mul(a2).add(c21);
+                IntVector a3 = IntVector.broadcast(INTS, rowA3[k]);
+                c30 = b0.mul(a3).add(c30);
+                c31 = b1.mul(a3).add(c31);
+            }
+
+            c00.intoArray(result[rowStart], j);
+            c01.intoArray(result[rowStart], j + LANES);
+            c10.intoArray(result[rowStart + 1], j);
+            c11.intoArray(result[rowStart + 1], j + LANES);
+            c20.intoArray(result[rowStart + 2], j);
+            c21.intoArray(result[rowStart + 2], j + LANES);
+            c30.intoArray(result[rowStart + 3], j);
+            c31.intoArray(result[rowStart + 3], j + LANES);
+        }
+
+        if (j < cols) {
+            for (int i = rowStart; i < rowStart + ROWS_PER_GROUP; i++) {
+                multiplyColumns(matrixA[i], matrixB, result[i], j);
+            }
+        }
+    }
+
+    private static void multiplyRow(byte[] rowA, byte[][] matrixB, int[] rowC) {
+        multiplyColumns(rowA, matrixB, rowC, 0);
+    }
+
+    private static void multiplyColumns(byte[] rowA, byte[][] matrixB, int[] rowC, int colStart) {
+        int cols = rowC.length;
+        int common = matrixB.length;
+
+        int j = colStart;
+        for (; j + LANES <= cols; j += LANES) {
+            IntVector acc = IntVector.zero(INTS);
+            for (int k = 0; k < common; k++) {
+                acc = widen(matrixB[k], j).mul(rowA[k]).add(acc);
+            }
+            acc.intoArray(rowC, j);
+        }
+        for (; j < cols; j++) {
+            int sum = 0;
+            for (int k = 0; k < common; k++) {
+                sum += rowA[k] * matrixB[k][j];
+            }
+            rowC[j] = sum;
+        }
+    }
+
+    private static IntVector widen(byte[] row, int offset) {
+        ByteVector bytes = offset + BYTES.length() <= row.length
+                ? ByteVector.fromArray(BYTES, row, offset)
+                : ByteVector.fromArray(BYTES, row, offset, BYTES.indexInRange(offset, row.length));
+        return part(bytes, 0);
+    }
+
+    private static IntVector part(ByteVector bytes, int part) {
+        return (IntVector) bytes.convertShape(VectorOperators.B2I, INTS, part);
+    }
+}
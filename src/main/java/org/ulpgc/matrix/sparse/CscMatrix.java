@@ -0,0 +1,53 @@
+package org.ulpgc.matrix.sparse;
+
+public final class CscMatrix {
+    private final CsrMatrix transposed;
+
+    private CscMatrix(CsrMatrix transposed) {
+        this.transposed = transposed;
+    }
+
+    public static CscMatrix fromArray(double[][] matrix) {
+        return fromCsr(CsrMatrix.fromArray(matrix));
+    }
+
+    public static CscMatrix fromCsr(CsrMatrix matrix) {
+        return new CscMatrix(matrix.transpose());
+    }
+
+    public CsrMatrix toCsr() {
+        return transposed.transpose();
+    }
+
+    public double[][] toArray() {
+        return toCsr().toArray();
+    }
+
+    public int nnz() {
+        return transposed.nnz();
+    }
+
+    public double density() {
+        return transposed.density();
+    }
+
+    public int rows() {
+        return transposed.cols();
+    }
+
+    public int cols() {
+        return transposed.rows();
+    }
+
+    public int[] columnPointers() {
+        return transposed.rowPointers();
+    }
+
+    public int[] rowIndices() {
+        return transposed.columnIndices();
+    }
+
+    public double[] values() {
+        return transposed.values();
+    }
+}
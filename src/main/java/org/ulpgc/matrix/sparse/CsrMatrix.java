@@ -0,0 +1,110 @@
+package org.ulpgc.matrix.sparse;
+
+public final class CsrMatrix {
+    private final int rows;
+    private final int cols;
+    private final int[] rowPointers;
+    private final int[] columnIndices;
+    private final double[] values;
+
+    public CsrMatrix(int rows, int cols, int[] rowPointers, int[] columnIndices, double[] values) {
+        if (rowPointers.length != rows + 1 || columnIndices.length != values.length
+                || rowPointers[rows] != values.length) {
+            throw new IllegalArgumentException("Inconsistent CSR arrays for a " + rows + "x" + cols + " matrix");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    public static CsrMatrix fromArray(double[][] matrix) {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        int[] rowPointers = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (double value : matrix[i]) {
+                if (value != 0.0) {
+                    count++;
+                }
+            }
+            rowPointers[i + 1] = rowPointers[i] + count;
+        }
+
+        int[] columnIndices = new int[rowPointers[rows]];
+        double[] values = new double[rowPointers[rows]];
+        for (int i = 0; i < rows; i++) {
+            int position = rowPointers[i];
+            for (int j = 0; j < cols; j++) {
+                if (matrix[i][j] != 0.0) {
+                    columnIndices[position] = j;
+                    values[position] = matrix[i][j];
+                    position++;
+                }
+            }
+        }
+        return new CsrMatrix(rows, cols, rowPointers, columnIndices, values);
+    }
+
+    public double[][] toArray() {
+        double[][] matrix = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) {
+                matrix[i][columnIndices[p]] = values[p];
+            }
+        }
+        return matrix;
+    }
+
+    public CsrMatrix transpose() {
+        int[] pointers = new int[cols + 1];
+        for (int p = 0; p < nnz(); p++) {
+            pointers[columnIndices[p] + 1]++;
+        }
+        for (int j = 0; j < cols; j++) {
+            pointers[j + 1] += pointers[j];
+        }
+
+        int[] next = pointers.clone();
+        int[] indices = new int[nnz()];
+        double[] transposedValues = new double[nnz()];
+        for (int i = 0; i < rows; i++) {
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) {
+                int position = next[columnIndices[p]]++;
+                indices[position] = i;
+                transposedValues[position] = values[p];
+            }
+        }
+        return new CsrMatrix(cols, rows, pointers, indices, transposedValues);
+    }
+
+    public int nnz() {
+        return values.length;
+    }
+
+    public double density() {
+        return rows == 0 || cols == 0 ? 0.0 : (double) nnz() / ((long) rows * cols);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int[] rowPointers() {
+        return rowPointers;
+    }
+
+    public int[] columnIndices() {
+        return columnIndices;
+    }
+
+    public double[] values() {
+        return values;
+    }
+}
@@ -0,0 +1,85 @@
+package org.ulpgc.matrix.sparse;
+
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.vectorized.ParallelVectorizedMatrixMultiplication;
+
+public class DensityRoutingMatrixMultiplication implements MatrixMultiplication, AutoCloseable {
+    public static final double DEFAULT_THRESHOLD = 0.05;
+
+    private final MatrixMultiplication dense;
+    private final SparseMatrixMultiplication sparse;
+    private final double threshold;
+    private final boolean ownsDense;
+
+    public DensityRoutingMatrixMultiplication() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public DensityRoutingMatrixMultiplication(int numThreads) {
+        this(new ParallelVectorizedMatrixMultiplication(numThreads), new SparseMatrixMultiplication(numThreads),
+                DEFAULT_THRESHOLD, true);
+    }
+
+    public DensityRoutingMatrixMultiplication(MatrixMultiplication dense, SparseMatrixMultiplication sparse,
+                                              double threshold) {
+        this(dense, sparse, threshold, false);
+    }
+
+    private DensityRoutingMatrixMultiplication(MatrixMultiplication dense, SparseMatrixMultiplication sparse,
+                                               double threshold, boolean ownsDense) {
+        this.dense = dense;
+        this.sparse = sparse;
+        this.threshold = threshold;
+        this.ownsDense = ownsDense;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        boolean sparseA = isSparse(matrixA, threshold);
+        boolean sparseB = isSparse(matrixB, threshold);
+
+        if (sparseA && sparseB) {
+            return sparse.multiply(CsrMatrix.fromArray(matrixA), CsrMatrix.fromArray(matrixB)).toArray();
+        }
+        if (sparseA) {
+            return sparse.multiply(CsrMatrix.fromArray(matrixA), matrixB);
+        }
+        if (sparseB) {
+            return sparse.multiply(matrixA, CscMatrix.fromArray(matrixB));
+        }
+        return dense.multiply(matrixA, matrixB);
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        if (isSparse(matrixA, threshold) || isSparse(matrixB, threshold)) {
+            MatrixMultiplication.super.multiplyInto(matrixA, matrixB, result, alpha, beta);
+        } else {
+            dense.multiplyInto(matrixA, matrixB, result, alpha, beta);
+        }
+    }
+
+    public static boolean isSparse(double[][] matrix, double threshold) {
+        long limit = (long) (threshold * matrix.length * (matrix.length == 0 ? 0 : matrix[0].length));
+        long nonZeros = 0;
+        for (double[] row : matrix) {
+            for (double value : row) {
+                if (value != 0.0 && ++nonZeros > limit) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (ownsDense && dense instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not close dense engine", e);
+            }
+        }
+    }
+}
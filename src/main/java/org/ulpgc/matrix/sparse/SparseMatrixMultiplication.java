@@ -0,0 +1,264 @@
+package org.ulpgc.matrix.sparse;
+
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SparseMatrixMultiplication implements MatrixMultiplication {
+    private final int numThreads;
+    private final ThreadMode threadMode;
+
+    public SparseMatrixMultiplication(int numThreads) {
+        this(numThreads, ThreadMode.PLATFORM);
+    }
+
+    public SparseMatrixMultiplication(int numThreads, ThreadMode threadMode) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        }
+        this.numThreads = numThreads;
+        this.threadMode = threadMode;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        return multiply(CsrMatrix.fromArray(matrixA), matrixB);
+    }
+
+    public double[][] multiply(CsrMatrix matrixA, double[][] matrixB) {
+        if (matrixA.cols() != matrixB.length) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows() + "x" + matrixA.cols()
+                    + " * " + matrixB.length + "x" + matrixB[0].length);
+        }
+
+        int[] rowPointers = matrixA.rowPointers();
+        int[] columnIndices = matrixA.columnIndices();
+        double[] values = matrixA.values();
+        int cols = matrixB[0].length;
+        double[][] result = new double[matrixA.rows()][cols];
+
+        long[] work = new long[matrixA.rows() + 1];
+        for (int i = 0; i < matrixA.rows(); i++) {
+            work[i + 1] = work[i] + rowPointers[i + 1] - rowPointers[i];
+        }
+
+        runPartitioned(partition(work), (rowStart, rowEnd) -> {
+            for (int i = rowStart; i < rowEnd; i++) {
+                double[] rowC = result[i];
+                for (int p = rowPointers[i]; p < rowPointers[i + 1]; p++) {
+                    double value = values[p];
+                    double[] rowB = matrixB[columnIndices[p]];
+                    for (int j = 0; j < cols; j++) {
+                        rowC[j] += value * rowB[j];
+                    }
+                }
+            }
+        });
+
+        return result;
+    }
+
+    public double[][] multiply(double[][] matrixA, CscMatrix matrixB) {
+        if (matrixA[0].length != matrixB.rows()) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.length + "x" + matrixA[0].length
+                    + " * " + matrixB.rows() + "x" + matrixB.cols());
+        }
+
+        int[] columnPointers = matrixB.columnPointers();
+        int[] rowIndices = matrixB.rowIndices();
+        double[] values = matrixB.values();
+        int cols = matrixB.cols();
+        double[][] result = new double[matrixA.length][cols];
+
+        long[] work = new long[matrixA.length + 1];
+        for (int i = 0; i < matrixA.length; i++) {
+            work[i + 1] = work[i] + 1;
+        }
+
+        runPartitioned(partition(work), (rowStart, rowEnd) -> {
+            for (int i = rowStart; i < rowEnd; i++) {
+                double[] rowA = matrixA[i];
+                double[] rowC = result[i];
+                for (int j = 0; j < cols; j++) {
+                    double sum = 0;
+                    for (int p = columnPointers[j]; p < columnPointers[j + 1]; p++) {
+                        sum += rowA[rowIndices[p]] * values[p];
+                    }
+                    rowC[j] = sum;
+                }
+            }
+        });
+
+        return result;
+    }
+
+    public CsrMatrix multiply(CsrMatrix matrixA, CsrMatrix matrixB) {
+        if (matrixA.cols() != matrixB.rows()) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.rows() + "x" + matrixA.cols()
+                    + " * " + matrixB.rows() + "x" + matrixB.cols());
+        }
+
+        int rows = matrixA.rows();
+        int[] pointersA = matrixA.rowPointers();
+        int[] indicesA = matrixA.columnIndices();
+        int[] pointersB = matrixB.rowPointers();
+
+        long[] work = new long[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            long products = 0;
+            for (int p = pointersA[i]; p < pointersA[i + 1]; p++) {
+                products += pointersB[indicesA[p] + 1] - pointersB[indicesA[p]];
+            }
+            work[i + 1] = work[i] + products + 1;
+        }
+
+        int[] bounds = partition(work);
+        int[] rowCounts = new int[rows];
+        List<RowBlock> blocks = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t + 1 < bounds.length; t++) {
+            if (bounds[t] < bounds[t + 1]) {
+                RowBlock block = new RowBlock(bounds[t], bounds[t + 1]);
+                blocks.add(block);
+                tasks.add(() -> block.compute(matrixA, matrixB, rowCounts));
+            }
+        }
+        runAll(tasks);
+
+        int[] rowPointers = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            rowPointers[i + 1] = rowPointers[i] + rowCounts[i];
+        }
+        int[] columnIndices = new int[rowPointers[rows]];
+        double[] values = new double[rowPointers[rows]];
+        for (RowBlock block : blocks) {
+            int offset = rowPointers[block.rowStart];
+            System.arraycopy(block.columnIndices, 0, columnIndices, offset, block.size);
+            System.arraycopy(block.values, 0, values, offset, block.size);
+        }
+
+        return new CsrMatrix(rows, matrixB.cols(), rowPointers, columnIndices, values);
+    }
+
+    private int[] partition(long[] work) {
+        int rows = work.length - 1;
+        int parts = Math.max(1, Math.min(numThreads, rows));
+        long total = work[rows];
+        int[] bounds = new int[parts + 1];
+        bounds[parts] = rows;
+        for (int t = 1; t < parts; t++) {
+            long target = total * t / parts;
+            int position = Arrays.binarySearch(work, 0, rows + 1, target);
+            int row = position >= 0 ? position : -position - 1;
+            bounds[t] = Math.max(bounds[t - 1], Math.min(row, rows));
+        }
+        return bounds;
+    }
+
+    private interface RowRangeTask {
+        void run(int rowStart, int rowEnd);
+    }
+
+    private void runPartitioned(int[] bounds, RowRangeTask task) {
+        List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t + 1 < bounds.length; t++) {
+            int rowStart = bounds[t];
+            int rowEnd = bounds[t + 1];
+            if (rowStart < rowEnd) {
+                tasks.add(() -> task.run(rowStart, rowEnd));
+            }
+        }
+        runAll(tasks);
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (Runnable task : tasks) {
+            threads.add(threadMode.start(() -> {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for sparse multiplication", e);
+            }
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Sparse multiplication task failed", failure.get());
+        }
+    }
+
+    private static final class RowBlock {
+        private final int rowStart;
+        private final int rowEnd;
+        private int[] columnIndices = new int[16];
+        private double[] values = new double[16];
+        private int size;
+
+        private RowBlock(int rowStart, int rowEnd) {
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+        }
+
+        private void compute(CsrMatrix matrixA, CsrMatrix matrixB, int[] rowCounts) {
+            int[] pointersA = matrixA.rowPointers();
+            int[] indicesA = matrixA.columnIndices();
+            double[] valuesA = matrixA.values();
+            int[] pointersB = matrixB.rowPointers();
+            int[] indicesB = matrixB.columnIndices();
+            double[] valuesB = matrixB.values();
+
+            double[] accumulator = new double[matrixB.cols()];
+            int[] marker = new int[matrixB.cols()];
+            Arrays.fill(marker, -1);
+            int[] touched = new int[matrixB.cols()];
+
+            for (int i = rowStart; i < rowEnd; i++) {
+                int count = 0;
+                for (int p = pointersA[i]; p < pointersA[i + 1]; p++) {
+                    double value = valuesA[p];
+                    int k = indicesA[p];
+                    for (int q = pointersB[k]; q < pointersB[k + 1]; q++) {
+                        int j = indicesB[q];
+                        if (marker[j] != i) {
+                            marker[j] = i;
+                            accumulator[j] = 0.0;
+                            touched[count++] = j;
+                        }
+                        accumulator[j] += value * valuesB[q];
+                    }
+                }
+
+                Arrays.sort(touched, 0, count);
+                ensureCapacity(size + count);
+                for (int t = 0; t < count; t++) {
+                    columnIndices[size] = touched[t];
+                    values[size] = accumulator[touched[t]];
+                    size++;
+                }
+                rowCounts[i] = count;
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > columnIndices.length) {
+                int length = Math.max(capacity, columnIndices.length * 2);
+                columnIndices = Arrays.copyOf(columnIndices, length);
+                values = Arrays.copyOf(values, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package org.ulpgc.matrix.strassen;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.blocked.BlockedMatrixMultiplication;
+import org.ulpgc.matrix.dense.ArrayMatrixAdapter;
+import org.ulpgc.matrix.dense.DenseMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class StrassenMatrixMultiplication implements MatrixMultiplication, DenseMatrixMultiplication {
+    public static final int DEFAULT_CUTOFF = 128;
+
+    private final DenseMatrixMultiplication base;
+    private final int cutoff;
+    private final int parallelDepth;
+    private final ThreadLocal<Workspace> workspaces = new ThreadLocal<>();
+
+    public StrassenMatrixMultiplication() {
+        this(new BlockedMatrixMultiplication(), DEFAULT_CUTOFF, 0);
+    }
+
+    public StrassenMatrixMultiplication(MatrixMultiplication base, int cutoff, int parallelDepth) {
+        if (cutoff < 2) {
+            throw new IllegalArgumentException("cutoff must be at least 2: " + cutoff);
+        }
+        if (parallelDepth < 0) {
+            throw new IllegalArgumentException("parallelDepth must not be negative: " + parallelDepth);
+        }
+        this.base = base instanceof DenseMatrixMultiplication dense ? dense : new ArrayMatrixAdapter(base);
+        this.cutoff = cutoff;
+        this.parallelDepth = parallelDepth;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        return multiply(DenseMatrix.fromArray(matrixA), DenseMatrix.fromArray(matrixB)).toArray();
+    }
+
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        int rows = result.rows();
+        int cols = result.cols();
+        int common = matrixA.cols();
+
+        int levels = levels(rows, common, cols);
+        if (levels == 0) {
+            base.multiply(matrixA, matrixB, result);
+            return;
+        }
+
+        int unit = 1 << levels;
+        int paddedRows = roundUp(rows, unit);
+        int paddedCommon = roundUp(common, unit);
+        int paddedCols = roundUp(cols, unit);
+        boolean padded = paddedRows != rows || paddedCommon != common || paddedCols != cols;
+
+        DenseMatrix a = padded ? pad(matrixA, paddedRows, paddedCommon) : matrixA;
+        DenseMatrix b = padded ? pad(matrixB, paddedCommon, paddedCols) : matrixB;
+        DenseMatrix c = padded ? new DenseMatrix(paddedRows, paddedCols) : result;
+
+        Workspace workspace = workspace(paddedRows, paddedCommon, paddedCols, levels);
+        if (parallelDepth > 0) {
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> recurse(a, b, c, 0, levels, workspace)));
+        } else {
+            recurse(a, b, c, 0, levels, workspace);
+        }
+
+        if (padded) {
+            copy(c.view(0, 0, rows, cols), result);
+        }
+    }
+
+    private Workspace workspace(int rows, int common, int cols, int levels) {
+        Workspace workspace = workspaces.get();
+        if (workspace == null || !workspace.fits(rows, common, cols, levels)) {
+            workspace = new Workspace(rows, common, cols, 0, levels, parallelDepth);
+            workspaces.set(workspace);
+        }
+        return workspace;
+    }
+
+    private int levels(int rows, int common, int cols) {
+        int maxDim = Math.max(rows, Math.max(common, cols));
+        int minDim = Math.min(rows, Math.min(common, cols));
+        int levels = 0;
+        while (ceilDiv(maxDim, 1 << levels) > cutoff && ceilDiv(minDim, 1 << (levels + 1)) >= cutoff / 2) {
+            levels++;
+        }
+        return levels;
+    }
+
+    private void recurse(DenseMatrix a, DenseMatrix b, DenseMatrix c, int level, int levels, Workspace workspace) {
+        if (level == levels) {
+            base.multiply(a, b, c);
+            return;
+        }
+        if (level < parallelDepth) {
+            recurseParallel(a, b, c, level, levels, workspace);
+            return;
+        }
+
+        int h1 = c.rows() / 2;
+        int h2 = a.cols() / 2;
+        int h3 = c.cols() / 2;
+        DenseMatrix a11 = a.view(0, 0, h1, h2), a12 = a.view(0, h2, h1, h2);
+        DenseMatrix a21 = a.view(h1, 0, h1, h2), a22 = a.view(h1, h2, h1, h2);
+        DenseMatrix b11 = b.view(0, 0, h2, h3), b12 = b.view(0, h3, h2, h3);
+        DenseMatrix b21 = b.view(h2, 0, h2, h3), b22 = b.view(h2, h3, h2, h3);
+        DenseMatrix c11 = c.view(0, 0, h1, h3), c12 = c.view(0, h3, h1, h3);
+        DenseMatrix c21 = c.view(h1, 0, h1, h3), c22 = c.view(h1, h3, h1, h3);
+
+        DenseMatrix t1 = workspace.left[level];
+        DenseMatrix t2 = workspace.right[level];
+        DenseMatrix m = workspace.product[level];
+        int next = level + 1;
+
+        add(a11, a22, t1);
+        add(b11, b22, t2);
+        recurse(t1, t2, m, next, levels, workspace);
+        copy(m, c11);
+        copy(m, c22);
+
+        add(a21, a22, t1);
+        recurse(t1, b11, m, next, levels, workspace);
+        copy(m, c21);
+        subtractInto(c22, m);
+
+        subtract(b12, b22, t2);
+        recurse(a11, t2, m, next, levels, workspace);
+        copy(m, c12);
+        addInto(c22, m);
+
+        subtract(b21, b11, t2);
+        recurse(a22, t2, m, next, levels, workspace);
+        addInto(c11, m);
+        addInto(c21, m);
+
+        add(a11, a12, t1);
+        recurse(t1, b22, m, next, levels, workspace);
+        subtractInto(c11, m);
+        addInto(c12, m);
+
+        subtract(a21, a11, t1);
+        add(b11, b12, t2);
+        recurse(t1, t2, m, next, levels, workspace);
+        addInto(c22, m);
+
+        subtract(a12, a22, t1);
+        add(b21, b22, t2);
+        recurse(t1, t2, m, next, levels, workspace);
+        addInto(c11, m);
+    }
+
+    private void recurseParallel(DenseMatrix a, DenseMatrix b, DenseMatrix c, int level, int levels,
+                                 Workspace workspace) {
+        int h1 = c.rows() / 2;
+        int h2 = a.cols() / 2;
+        int h3 = c.cols() / 2;
+        DenseMatrix a11 = a.view(0, 0, h1, h2), a12 = a.view(0, h2, h1, h2);
+        DenseMatrix a21 = a.view(h1, 0, h1, h2), a22 = a.view(h1, h2, h1, h2);
+        DenseMatrix b11 = b.view(0, 0, h2, h3), b12 = b.view(0, h3, h2, h3);
+        DenseMatrix b21 = b.view(h2, 0, h2, h3), b22 = b.view(h2, h3, h2, h3);
+        DenseMatrix c11 = c.view(0, 0, h1, h3), c12 = c.view(0, h3, h1, h3);
+        DenseMatrix c21 = c.view(h1, 0, h1, h3), c22 = c.view(h1, h3, h1, h3);
+
+        Workspace[] branches = workspace.branches;
+        DenseMatrix[] products = new DenseMatrix[7];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(7);
+        for (int p = 0; p < 7; p++) {
+            int index = p;
+            Workspace branch = branches[p];
+            products[p] = branch.result;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                DenseMatrix leftOperand = switch (index) {
+                    case 0 -> add(a11, a22, branch.leftOperand);
+                    case 1 -> add(a21, a22, branch.leftOperand);
+                    case 2 -> a11;
+                    case 3 -> a22;
+                    case 4 -> add(a11, a12, branch.leftOperand);
+                    case 5 -> subtract(a21, a11, branch.leftOperand);
+                    default -> subtract(a12, a22, branch.leftOperand);
+                };
+                DenseMatrix rightOperand = switch (index) {
+                    case 0 -> add(b11, b22, branch.rightOperand);
+                    case 1 -> b11;
+                    case 2 -> subtract(b12, b22, branch.rightOperand);
+                    case 3 -> subtract(b21, b11, branch.rightOperand);
+                    case 4 -> b22;
+                    case 5 -> add(b11, b12, branch.rightOperand);
+                    default -> add(b21, b22, branch.rightOperand);
+                };
+                recurse(leftOperand, rightOperand, branch.result, level + 1, levels, branch);
+            }));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        copy(products[0], c11);
+        addInto(c11, products[3]);
+        subtractInto(c11, products[4]);
+        addInto(c11, products[6]);
+
+        copy(products[2], c12);
+        addInto(c12, products[4]);
+
+        copy(products[1], c21);
+        addInto(c21, products[3]);
+
+        copy(products[0], c22);
+        subtractInto(c22, products[1]);
+        addInto(c22, products[2]);
+        addInto(c22, products[5]);
+    }
+
+    private static final class Workspace {
+        private final int rows;
+        private final int common;
+        private final int cols;
+        private final int levels;
+        private final DenseMatrix[] left;
+        private final DenseMatrix[] right;
+        private final DenseMatrix[] product;
+        private final Workspace[] branches;
+        private final DenseMatrix leftOperand;
+        private final DenseMatrix rightOperand;
+        private final DenseMatrix result;
+
+        Workspace(int rows, int common, int cols, int fromLevel, int levels, int parallelDepth) {
+            this.rows = rows;
+            this.common = common;
+            this.cols = cols;
+            this.levels = levels;
+            left = new DenseMatrix[levels];
+            right = new DenseMatrix[levels];
+            product = new DenseMatrix[levels];
+            branches = new Workspace[7];
+            if (fromLevel > 0) {
+                leftOperand = new DenseMatrix(rows, common);
+                rightOperand = new DenseMatrix(common, cols);
+                result = new DenseMatrix(rows, cols);
+            } else {
+                leftOperand = null;
+                rightOperand = null;
+                result = null;
+            }
+
+            if (fromLevel < parallelDepth && fromLevel < levels) {
+                for (int p = 0; p < branches.length; p++) {
+                    branches[p] = new Workspace(rows / 2, common / 2, cols / 2, fromLevel + 1, levels, parallelDepth);
+                }
+                return;
+            }
+            for (int level = fromLevel; level < levels; level++) {
+                rows /= 2;
+                common /= 2;
+                cols /= 2;
+                left[level] = new DenseMatrix(rows, common);
+                right[level] = new DenseMatrix(common, cols);
+                product[level] = new DenseMatrix(rows, cols);
+            }
+        }
+
+        boolean fits(int rows, int common, int cols, int levels) {
+            return this.rows == rows && this.common == common && this.cols == cols && this.levels == levels;
+        }
+    }
+
+    private static DenseMatrix add(DenseMatrix x, DenseMatrix y, DenseMatrix out) {
+        for (int i = 0; i < out.rows(); i++) {
+            int rowX = x.index(i, 0), rowY = y.index(i, 0), rowOut = out.index(i, 0);
+            for (int j = 0; j < out.cols(); j++) {
+                out.data()[rowOut + j] = x.data()[rowX + j] + y.data()[rowY + j];
+            }
+        }
+        return out;
+    }
+
+    private static DenseMatrix subtract(DenseMatrix x, DenseMatrix y, DenseMatrix out) {
+        for (int i = 0; i < out.rows(); i++) {
+            int rowX = x.index(i, 0), rowY = y.index(i, 0), rowOut = out.index(i, 0);
+            for (int j = 0; j < out.cols(); j++) {
+                out.data()[rowOut + j] = x.data()[rowX + j] - y.data()[rowY + j];
+            }
+        }
+        return out;
+    }
+
+    private static void addInto(DenseMatrix target, DenseMatrix x) {
+        for (int i = 0; i < target.rows(); i++) {
+            int rowTarget = target.index(i, 0), rowX = x.index(i, 0);
+            for (int j = 0; j < target.cols(); j++) {
+                target.data()[rowTarget + j] += x.data()[rowX + j];
+            }
+        }
+    }
+
+    private static void subtractInto(DenseMatrix target, DenseMatrix x) {
+        for (int i = 0; i < target.rows(); i++) {
+            int rowTarget = target.index(i, 0), rowX = x.index(i, 0);
+            for (int j = 0; j < target.cols(); j++) {
+                target.data()[rowTarget + j] -= x.data()[rowX + j];
+            }
+        }
+    }
+
+    private static void copy(DenseMatrix source, DenseMatrix target) {
+        for (int i = 0; i < target.rows(); i++) {
+            System.arraycopy(source.data(), source.index(i, 0), target.data(), target.index(i, 0), target.cols());
+        }
+    }
+
+    private static DenseMatrix pad(DenseMatrix matrix, int rows, int cols) {
+        DenseMatrix padded = new DenseMatrix(rows, cols);
+        copy(matrix, padded.view(0, 0, matrix.rows(), matrix.cols()));
+        return padded;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private static int roundUp(int value, int multiple) {
+        return ceilDiv(value, multiple) * multiple;
+    }
+}
@@ -0,0 +1,129 @@
+package org.ulpgc.matrix.vectorized;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import static org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication.*;
+
+public final class PackedMatrix implements AutoCloseable {
+    public static final int PANEL_WIDTH = NR;
+    public static final int PANEL_DEPTH = KC;
+    private static final long ALIGNMENT = 64;
+
+    private final int rows;
+    private final int cols;
+    private final int paddedCols;
+    private final double[] data;
+    private final Arena arena;
+    private final MemorySegment segment;
+
+    private PackedMatrix(int rows, int cols, double[] data, Arena arena, MemorySegment segment) {
+        this.rows = rows;
+        this.cols = cols;
+        this.paddedCols = roundUp(cols, NR);
+        this.data = data;
+        this.arena = arena;
+        this.segment = segment;
+    }
+
+    public static PackedMatrix pack(double[][] matrix) {
+        return pack(matrix, false);
+    }
+
+    public static PackedMatrix pack(double[][] matrix, boolean offHeap) {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        int paddedCols = roundUp(cols, NR);
+        long elements = (long) rows * paddedCols;
+        if (!offHeap) {
+            if (elements > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("A packed " + rows + "x" + cols
+                        + " matrix does not fit in a heap array; pack it off-heap");
+            }
+            double[] panels = new double[(int) elements];
+            for (int pc = 0; pc < rows; pc += KC) {
+                packB(matrix, pc, Math.min(KC, rows - pc), 0, cols, panels, pc * paddedCols);
+            }
+            return new PackedMatrix(rows, cols, panels, null, MemorySegment.ofArray(panels));
+        }
+
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment segment = arena.allocate(elements * Double.BYTES, ALIGNMENT);
+            double[] block = new double[Math.min(KC, rows) * paddedCols];
+            for (int pc = 0; pc < rows; pc += KC) {
+                int kc = Math.min(KC, rows - pc);
+                packB(matrix, pc, kc, 0, cols, block, 0);
+                MemorySegment.copy(block, 0, segment, ValueLayout.JAVA_DOUBLE,
+                        (long) pc * paddedCols * Double.BYTES, kc * paddedCols);
+            }
+            return new PackedMatrix(rows, cols, null, arena, segment);
+        } catch (RuntimeException | Error e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public double get(int row, int col) {
+        int pc = row - row % KC;
+        int panel = col - col % NR;
+        long index = blockOffset(pc, panel) + (long) (row - pc) * NR + (col - panel);
+        return segment.getAtIndex(ValueLayout.JAVA_DOUBLE, index);
+    }
+
+    public double[][] toArray() {
+        double[][] matrix = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                matrix[i][j] = get(i, j);
+            }
+        }
+        return matrix;
+    }
+
+    public void checkProduct(double[][] matrixA, double[][] result) {
+        int common = matrixA.length == 0 ? rows : matrixA[0].length;
+        if (common != rows || result.length != matrixA.length || (result.length > 0 && result[0].length != cols)) {
+            throw new IllegalArgumentException("Incompatible shapes: " + matrixA.length + "x" + common + " * "
+                    + rows + "x" + cols + " -> " + result.length + "x" + (result.length == 0 ? 0 : result[0].length));
+        }
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public long bytes() {
+        return segment.byteSize();
+    }
+
+    public boolean isOffHeap() {
+        return data == null;
+    }
+
+    double[] heapData() {
+        return data;
+    }
+
+    long blockOffset(int kStart, int colStart) {
+        return (long) kStart * paddedCols + (long) colStart * Math.min(KC, rows - kStart);
+    }
+
+    void copyBlock(int kStart, int colStart, int nc, double[] target) {
+        int length = Math.min(KC, rows - kStart) * roundUp(nc, NR);
+        MemorySegment.copy(segment, ValueLayout.JAVA_DOUBLE, blockOffset(kStart, colStart) * Double.BYTES,
+                target, 0, length);
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+}
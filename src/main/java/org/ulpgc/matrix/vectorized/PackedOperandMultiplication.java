@@ -0,0 +1,17 @@
+package org.ulpgc.matrix.vectorized;
+
+import org.ulpgc.matrix.MatrixMultiplication;
+
+public interface PackedOperandMultiplication extends MatrixMultiplication {
+    default PackedMatrix prepare(double[][] matrixB) {
+        return PackedMatrix.pack(matrixB);
+    }
+
+    default double[][] multiply(double[][] matrixA, PackedMatrix matrixB) {
+        double[][] result = new double[matrixA.length][matrixB.cols()];
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    void multiplyInto(double[][] matrixA, PackedMatrix matrixB, double[][] result, double alpha, double beta);
+}
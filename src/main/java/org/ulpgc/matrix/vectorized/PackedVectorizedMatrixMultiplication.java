@@ -0,0 +1,310 @@
+package org.ulpgc.matrix.vectorized;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.dense.DenseMatrix;
+import org.ulpgc.matrix.gemv.MatrixVectorRoutingMultiplication;
+
+import java.util.Arrays;
+
+public class PackedVectorizedMatrixMultiplication implements PackedOperandMultiplication, DenseMatrixMultiplication {
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    static final int LANES = SPECIES.length();
+    static final int MR = 4;
+    static final int NR = 2 * LANES;
+    static final int MC = 96;
+    static final int KC = 256;
+    static final int NC = 1024;
+
+    private static final ThreadLocal<double[][]> PACKING_BUFFERS =
+            ThreadLocal.withInitial(() -> new double[][]{
+                    new double[MC * KC], new double[KC * roundUp(NC, NR)], new double[MR * NR]});
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        if (MatrixVectorRoutingMultiplication.isVectorShape(matrixA, matrixB)) {
+            return VectorizedMatrixMultiplication.MATRIX_VECTOR_ROUTER.multiply(matrixA, matrixB);
+        }
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        if (MatrixVectorRoutingMultiplication.isVectorShape(matrixA, matrixB)) {
+            VectorizedMatrixMultiplication.MATRIX_VECTOR_ROUTER.multiplyInto(matrixA, matrixB, result, alpha, beta);
+            return;
+        }
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        MatrixAccumulation.scale(result, beta);
+        double[][] buffers = packingBuffers();
+        multiplyBlock(matrixA, matrixB, result, alpha, 0, result.length, 0, matrixB[0].length, buffers);
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, PackedMatrix matrixB, double[][] result, double alpha, double beta) {
+        multiplyPacked(matrixA, matrixB, result, alpha, beta);
+    }
+
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        result.fill(0.0);
+        double[][] buffers = packingBuffers();
+        multiplyBlock(matrixA, matrixB, result, 0, result.rows(), 0, result.cols(), buffers);
+    }
+
+    public static void multiplyPacked(double[][] matrixA, PackedMatrix matrixB, double[][] result,
+                                      double alpha, double beta) {
+        matrixB.checkProduct(matrixA, result);
+        MatrixAccumulation.scale(result, beta);
+        double[][] buffers = packingBuffers();
+        multiplyBlock(matrixA, matrixB, result, alpha, 0, result.length, 0, matrixB.cols(), buffers);
+    }
+
+    static double[][] packingBuffers() {
+        return PACKING_BUFFERS.get();
+    }
+
+    static void multiplyBlock(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result,
+                              int rowStart, int rowEnd, int colStart, int colEnd, double[][] buffers) {
+        int common = matrixA.cols();
+        double[] packedA = buffers[0];
+        double[] packedB = buffers[1];
+        double[] tile = buffers[2];
+        double[] c = result.data();
+
+        for (int jc = colStart; jc < colEnd; jc += NC) {
+            int nc = Math.min(NC, colEnd - jc);
+            for (int pc = 0; pc < common; pc += KC) {
+                int kc = Math.min(KC, common - pc);
+                packB(matrixB, pc, kc, jc, nc, packedB);
+
+                for (int ic = rowStart; ic < rowEnd; ic += MC) {
+                    int mc = Math.min(MC, rowEnd - ic);
+                    packA(matrixA, ic, mc, pc, kc, packedA);
+
+                    for (int jr = 0; jr < nc; jr += NR) {
+                        int nr = Math.min(NR, nc - jr);
+                        int offsetB = jr * kc;
+                        for (int ir = 0; ir < mc; ir += MR) {
+                            int mr = Math.min(MR, mc - ir);
+                            int row = ic + ir;
+                            int col = jc + jr;
+                            if (nr == NR) {
+                                microKernel(kc, packedA, ir * kc, packedB, offsetB,
+                                        c, result.index(row, col),
+                                        c, mr > 1 ? result.index(row + 1, col) : 0,
+                                        c, mr > 2 ? result.index(row + 2, col) : 0,
+                                        c, mr > 3 ? result.index(row + 3, col) : 0,
+                                        mr);
+                            } else {
+                                edgeKernel(kc, packedA, ir * kc, packedB, offsetB, tile);
+                                for (int r = 0; r < mr; r++) {
+                                    addTileRow(tile, r, nr, c, result.index(row + r, col));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void multiplyBlock(double[][] matrixA, double[][] matrixB, double[][] result, double alpha,
+                              int rowStart, int rowEnd, int colStart, int colEnd, double[][] buffers) {
+        int common = matrixB.length;
+        double[] packedB = buffers[1];
+
+        for (int jc = colStart; jc < colEnd; jc += NC) {
+            int nc = Math.min(NC, colEnd - jc);
+            for (int pc = 0; pc < common; pc += KC) {
+                int kc = Math.min(KC, common - pc);
+                packB(matrixB, pc, kc, jc, nc, packedB, 0);
+                multiplyPanels(matrixA, alpha, result, rowStart, rowEnd, pc, kc, jc, nc, packedB, 0, buffers);
+            }
+        }
+    }
+
+    static void multiplyBlock(double[][] matrixA, PackedMatrix matrixB, double[][] result, double alpha,
+                              int rowStart, int rowEnd, int colStart, int colEnd, double[][] buffers) {
+        int common = matrixB.rows();
+        double[] packedB = buffers[1];
+        double[] panels = matrixB.heapData();
+
+        for (int jc = colStart; jc < colEnd; jc += NC) {
+            int nc = Math.min(NC, colEnd - jc);
+            for (int pc = 0; pc < common; pc += KC) {
+                int kc = Math.min(KC, common - pc);
+                if (panels != null) {
+                    multiplyPanels(matrixA, alpha, result, rowStart, rowEnd, pc, kc, jc, nc,
+                            panels, (int) matrixB.blockOffset(pc, jc), buffers);
+                } else {
+                    matrixB.copyBlock(pc, jc, nc, packedB);
+                    multiplyPanels(matrixA, alpha, result, rowStart, rowEnd, pc, kc, jc, nc, packedB, 0, buffers);
+                }
+            }
+        }
+    }
+
+    private static void multiplyPanels(double[][] matrixA, double alpha, double[][] result, int rowStart, int rowEnd,
+                                       int pc, int kc, int jc, int nc, double[] packedB, int offset,
+                                       double[][] buffers) {
+        double[] packedA = buffers[0];
+        double[] tile = buffers[2];
+        for (int ic = rowStart; ic < rowEnd; ic += MC) {
+            int mc = Math.min(MC, rowEnd - ic);
+            packA(matrixA, alpha, ic, mc, pc, kc, packedA);
+
+            for (int jr = 0; jr < nc; jr += NR) {
+                int nr = Math.min(NR, nc - jr);
+                int offsetB = offset + jr * kc;
+                for (int ir = 0; ir < mc; ir += MR) {
+                    int mr = Math.min(MR, mc - ir);
+                    int row = ic + ir;
+                    int col = jc + jr;
+                    if (nr == NR) {
+                        double[] row0 = result[row];
+                        microKernel(kc, packedA, ir * kc, packedB, offsetB,
+                                row0, col,
+                                mr > 1 ? result[row + 1] : row0, col,
+                                mr > 2 ? result[row + 2] : row0, col,
+                                mr > 3 ? result[row + 3] : row0, col,
+                                mr);
+                    } else {
+                        edgeKernel(kc, packedA, ir * kc, packedB, offsetB, tile);
+                        for (int r = 0; r < mr; r++) {
+                            addTileRow(tile, r, nr, result[row + r], col);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void packA(double[][] matrixA, double alpha, int rowStart, int mc, int kStart, int kc, double[] packed) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            for (int k = 0; k < kc; k++) {
+                for (int r = 0; r < MR; r++) {
+                    packed[index++] = r < mr ? alpha * matrixA[rowStart + ir + r][kStart + k] : 0.0;
+                }
+            }
+        }
+    }
+
+    static void packB(double[][] matrixB, int kStart, int kc, int colStart, int nc, double[] packed, int offset) {
+        int index = offset;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int k = 0; k < kc; k++) {
+                System.arraycopy(matrixB[kStart + k], colStart + jr, packed, index, nr);
+                for (int c = nr; c < NR; c++) {
+                    packed[index + c] = 0.0;
+                }
+                index += NR;
+            }
+        }
+    }
+
+    static void packA(DenseMatrix matrixA, int rowStart, int mc, int kStart, int kc, double[] packed) {
+        double[] a = matrixA.data();
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR) {
+            int mr = Math.min(MR, mc - ir);
+            for (int k = 0; k < kc; k++) {
+                for (int r = 0; r < MR; r++) {
+                    packed[index++] = r < mr ? a[matrixA.index(rowStart + ir + r, kStart + k)] : 0.0;
+                }
+            }
+        }
+    }
+
+    static void packB(DenseMatrix matrixB, int kStart, int kc, int colStart, int nc, double[] packed) {
+        double[] b = matrixB.data();
+        int index = 0;
+        for (int jr = 0; jr < nc; jr += NR) {
+            int nr = Math.min(NR, nc - jr);
+            for (int k = 0; k < kc; k++) {
+                int rowB = matrixB.index(kStart + k, colStart + jr);
+                System.arraycopy(b, rowB, packed, index, nr);
+                for (int c = nr; c < NR; c++) {
+                    packed[index + c] = 0.0;
+                }
+                index += NR;
+            }
+        }
+    }
+
+    private static void microKernel(int kc, double[] packedA, int offsetA, double[] packedB, int offsetB,
+                                    double[] row0, int index0, double[] row1, int index1,
+                                    double[] row2, int index2, double[] row3, int index3, int mr) {
+        DoubleVector c00 = DoubleVector.zero(SPECIES);
+        DoubleVector c01 = DoubleVector.zero(SPECIES);
+        DoubleVector c10 = DoubleVector.zero(SPECIES);
+        DoubleVector c11 = DoubleVector.zero(SPECIES);
+        DoubleVector c20 = DoubleVector.zero(SPECIES);
+        DoubleVector c21 = DoubleVector.zero(SPECIES);
+        DoubleVector c30 = DoubleVector.zero(SPECIES);
+        DoubleVector c31 = DoubleVector.zero(SPECIES);
+
+        int a = offsetA;
+        int b = offsetB;
+        for (int k = 0; k < kc; k++) {
+            DoubleVector b0 = DoubleVector.fromArray(SPECIES, packedB, b);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, packedB, b + LANES);
+
+            DoubleVector a0 = DoubleVector.broadcast(SPECIES, packedA[a]);
+            c00 = a0.fma(b0, c00);
+            c01 = a0.fma(b1, c01);
+            DoubleVector a1 = DoubleVector.broadcast(SPECIES, packedA[a + 1]);
+            c10 = a1.fma(b0, c10);
+            c11 = a1.fma(b1, c11);
+            DoubleVector a2 = DoubleVector.broadcast(SPECIES, packedA[a + 2]);
+            c20 = a2.fma(b0, c20);
+            c21 = a2.fma(b1, c21);
+            DoubleVector a3 = DoubleVector.broadcast(SPECIES, packedA[a + 3]);
+            c30 = a3.fma(b0, c30);
+            c31 = a3.fma(b1, c31);
+
+            a += MR;
+            b += NR;
+        }
+
+        DoubleVector.fromArray(SPECIES, row0, index0).add(c00).intoArray(row0, index0);
+        DoubleVector.fromArray(SPECIES, row0, index0 + LANES).add(c01).intoArray(row0, index0 + LANES);
+        if (mr > 1) {
+            DoubleVector.fromArray(SPECIES, row1, index1).add(c10).intoArray(row1, index1);
+            DoubleVector.fromArray(SPECIES, row1, index1 + LANES).add(c11).intoArray(row1, index1 + LANES);
+        }
+        if (mr > 2) {
+            DoubleVector.fromArray(SPECIES, row2, index2).add(c20).intoArray(row2, index2);
+            DoubleVector.fromArray(SPECIES, row2, index2 + LANES).add(c21).intoArray(row2, index2 + LANES);
+        }
+        if (mr > 3) {
+            DoubleVector.fromArray(SPECIES, row3, index3).add(c30).intoArray(row3, index3);
+            DoubleVector.fromArray(SPECIES, row3, index3 + LANES).add(c31).intoArray(row3, index3 + LANES);
+        }
+    }
+
+    private static void edgeKernel(int kc, double[] packedA, int offsetA, double[] packedB, int offsetB,
+                                   double[] tile) {
+        Arrays.fill(tile, 0.0);
+        microKernel(kc, packedA, offsetA, packedB, offsetB, tile, 0, tile, NR, tile, 2 * NR, tile, 3 * NR, MR);
+    }
+
+    private static void addTileRow(double[] tile, int row, int nr, double[] c, int index) {
+        int offset = row * NR;
+        for (int j = 0; j < nr; j++) {
+            c[index + j] += tile[offset + j];
+        }
+    }
+
+    static int roundUp(int value, int multiple) {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+}
@@ -0,0 +1,162 @@
+package org.ulpgc.matrix.vectorized;
+
+import org.ulpgc.matrix.DenseMatrixMultiplication;
+import org.ulpgc.matrix.MatrixAccumulation;
+import org.ulpgc.matrix.Transpose;
+import org.ulpgc.matrix.dense.DenseMatrix;
+import org.ulpgc.matrix.gemv.MatrixVectorRoutingMultiplication;
+import org.ulpgc.matrix.parallel.ThreadMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication.*;
+
+public class ParallelVectorizedMatrixMultiplication implements PackedOperandMultiplication, DenseMatrixMultiplication,
+        AutoCloseable {
+    private static final MatrixVectorRoutingMultiplication MATRIX_VECTOR_ROUTER =
+            new MatrixVectorRoutingMultiplication(new VectorizedMatrixMultiplication());
+
+    private final int numThreads;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    public ParallelVectorizedMatrixMultiplication(int numThreads) {
+        this(numThreads == 1 ? null : ThreadMode.PLATFORM.newExecutor(numThreads), numThreads, numThreads != 1);
+    }
+
+    public ParallelVectorizedMatrixMultiplication(ExecutorService executor, int numThreads) {
+        this(executor, numThreads, false);
+    }
+
+    private ParallelVectorizedMatrixMultiplication(ExecutorService executor, int numThreads, boolean ownsExecutor) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+        }
+        if (executor == null && numThreads != 1) {
+            throw new IllegalArgumentException("An executor is required for " + numThreads + " threads");
+        }
+        this.executor = executor;
+        this.numThreads = numThreads;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        if (MatrixVectorRoutingMultiplication.isVectorShape(matrixA, matrixB)) {
+            return MATRIX_VECTOR_ROUTER.multiply(matrixA, matrixB);
+        }
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        if (MatrixVectorRoutingMultiplication.isVectorShape(matrixA, matrixB)) {
+            MATRIX_VECTOR_ROUTER.multiplyInto(matrixA, matrixB, result, alpha, beta);
+            return;
+        }
+        MatrixAccumulation.checkShapes(matrixA, matrixB, result);
+        MatrixAccumulation.scale(result, beta);
+        runBlocks(result.length, matrixB[0].length, (rowStart, rowEnd, colStart, colEnd, buffers) ->
+                multiplyBlock(matrixA, matrixB, result, alpha, rowStart, rowEnd, colStart, colEnd, buffers));
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, PackedMatrix matrixB, double[][] result, double alpha, double beta) {
+        matrixB.checkProduct(matrixA, result);
+        MatrixAccumulation.scale(result, beta);
+        runBlocks(result.length, matrixB.cols(), (rowStart, rowEnd, colStart, colEnd, buffers) ->
+                multiplyBlock(matrixA, matrixB, result, alpha, rowStart, rowEnd, colStart, colEnd, buffers));
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, Transpose transposeA, double[][] matrixB, Transpose transposeB,
+                             double[][] result, double alpha, double beta) {
+        if (transposeA == Transpose.NONE && transposeB == Transpose.NONE) {
+            multiplyInto(matrixA, matrixB, result, alpha, beta);
+            return;
+        }
+        MatrixAccumulation.checkShapes(matrixA, transposeA, matrixB, transposeB, result);
+        runBlocks(result.length, transposeB.cols(matrixB), (rowStart, rowEnd, colStart, colEnd, buffers) ->
+                VectorizedMatrixMultiplication.multiplyRange(matrixA, transposeA, matrixB, transposeB, result,
+                        alpha, beta, rowStart, rowEnd, colStart, colEnd));
+    }
+
+    @Override
+    public void multiply(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        result.fill(0.0);
+        multiplyAdd(matrixA, matrixB, result);
+    }
+
+    public void multiplyAdd(DenseMatrix matrixA, DenseMatrix matrixB, DenseMatrix result) {
+        DenseMatrix.checkProduct(matrixA, matrixB, result);
+        runBlocks(result.rows(), result.cols(), (rowStart, rowEnd, colStart, colEnd, buffers) ->
+                multiplyBlock(matrixA, matrixB, result, rowStart, rowEnd, colStart, colEnd, buffers));
+    }
+
+    private void runBlocks(int rows, int cols, BlockKernel kernel) {
+        int blockRows = Math.max(MR, roundUp((rows + numThreads - 1) / numThreads, MR));
+        int rowBlocks = (rows + blockRows - 1) / blockRows;
+        int colBlocks = (cols + NC - 1) / NC;
+        int totalBlocks = rowBlocks * colBlocks;
+        int workers = Math.min(numThreads, totalBlocks);
+
+        if (workers <= 1) {
+            double[][] buffers = packingBuffers();
+            for (int block = 0; block < totalBlocks; block++) {
+                int rowStart = (block / colBlocks) * blockRows;
+                int colStart = (block % colBlocks) * NC;
+                kernel.run(rowStart, Math.min(rowStart + blockRows, rows),
+                        colStart, Math.min(colStart + NC, cols), buffers);
+            }
+            return;
+        }
+
+        AtomicInteger nextBlock = new AtomicInteger();
+        Runnable worker = () -> {
+            double[][] buffers = packingBuffers();
+            int block;
+            while ((block = nextBlock.getAndIncrement()) < totalBlocks) {
+                int rowStart = (block / colBlocks) * blockRows;
+                int colStart = (block % colBlocks) * NC;
+                kernel.run(rowStart, Math.min(rowStart + blockRows, rows),
+                        colStart, Math.min(colStart + NC, cols), buffers);
+            }
+        };
+
+        List<Future<?>> futures = new ArrayList<>(workers);
+        try {
+            for (int t = 0; t < workers; t++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for vectorized blocks", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Vectorized block failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private interface BlockKernel {
+        void run(int rowStart, int rowEnd, int colStart, int colEnd, double[][] buffers);
+    }
+}
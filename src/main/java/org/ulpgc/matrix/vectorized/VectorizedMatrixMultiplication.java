@@ -1,59 +1,296 @@
 package org.ulpgc.matrix.vectorized;
 
+import org.ulpgc.matrix.MatrixAccumulation;
 import org.ulpgc.matrix.MatrixMultiplication;
+import org.ulpgc.matrix.Transpose;
+import org.ulpgc.matrix.gemv.MatrixVectorRoutingMultiplication;
+import org.ulpgc.matrix.gemv.VectorizedMatrixVector;
 import jdk.incubator.vector.*;
 
 public class VectorizedMatrixMultiplication implements MatrixMultiplication {
     private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final VectorizedMatrixVector MATRIX_VECTOR = new VectorizedMatrixVector();
+    static final MatrixVectorRoutingMultiplication MATRIX_VECTOR_ROUTER = new MatrixVectorRoutingMultiplication(
+            new VectorizedMatrixMultiplication(), MATRIX_VECTOR, MATRIX_VECTOR, Long.MAX_VALUE);
+    private static final ThreadLocal<double[]> LANE_BUFFER = ThreadLocal.withInitial(() -> new double[LANES]);
 
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
-        int rows = matrixA.length;
-        int cols = matrixB[0].length;
-        int common = matrixB.length;
-        double[][] result = new double[rows][cols];
+        if (MatrixVectorRoutingMultiplication.isVectorShape(matrixA, matrixB)) {
+            return MATRIX_VECTOR_ROUTER.multiply(matrixA, matrixB);
+        }
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+
+        multiplyInto(matrixA, matrixB, result, 1.0, 0.0);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result, double alpha, double beta) {
+        multiplyInto(matrixA, Transpose.NONE, matrixB, Transpose.NONE, result, alpha, beta);
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, Transpose transposeA, double[][] matrixB, Transpose transposeB,
+                             double[][] result, double alpha, double beta) {
+        MatrixAccumulation.checkShapes(matrixA, transposeA, matrixB, transposeB, result);
+        if (result.length == 0) {
+            return;
+        }
+        if (transposeA == Transpose.NONE && transposeB == Transpose.NONE
+                && MatrixVectorRoutingMultiplication.isVectorShape(matrixA, matrixB)) {
+            MATRIX_VECTOR_ROUTER.multiplyInto(matrixA, matrixB, result, alpha, beta);
+            return;
+        }
+        multiplyRange(matrixA, transposeA, matrixB, transposeB, result, alpha, beta,
+                0, result.length, 0, result[0].length);
+    }
 
-        double[][] transposedB = transpose(matrixB);
+    static void multiplyRange(double[][] matrixA, Transpose transposeA, double[][] matrixB, Transpose transposeB,
+                              double[][] result, double alpha, double beta,
+                              int rowStart, int rowEnd, int colStart, int colEnd) {
+        if (transposeB == Transpose.NONE) {
+            multiplyRowPanels(matrixA, transposeA == Transpose.TRANSPOSE, matrixB, result, alpha, beta,
+                    rowStart, rowEnd, colStart, colEnd);
+        } else if (transposeA == Transpose.NONE) {
+            multiplyDotProducts(matrixA, matrixB, result, alpha, beta, rowStart, rowEnd, colStart, colEnd);
+        } else {
+            multiplyColumnPanels(matrixA, matrixB, result, alpha, beta, rowStart, rowEnd, colStart, colEnd);
+        }
+    }
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                result[i][j] = vectorizedDotProduct(matrixA[i], transposedB[j]);
+    private static void multiplyRowPanels(double[][] matrixA, boolean transposedA, double[][] matrixB,
+                                          double[][] result, double alpha, double beta,
+                                          int rowStart, int rowEnd, int colStart, int colEnd) {
+        int i = rowStart;
+        for (; i + 4 <= rowEnd; i += 4) {
+            int j = colStart;
+            for (; j + 2 * LANES <= colEnd; j += 2 * LANES) {
+                multiplyBlock(matrixA, transposedA, matrixB, result, alpha, beta, i, j);
+            }
+            for (; j < colEnd; j += LANES) {
+                multiplyMaskedBlock(matrixA, transposedA, matrixB, result, alpha, beta, i, j, colEnd);
             }
         }
+        for (; i < rowEnd; i++) {
+            multiplyRow(matrixA, transposedA, matrixB, result, alpha, beta, i, colStart, colEnd);
+        }
+    }
 
-        return result;
+    private static void multiplyBlock(double[][] matrixA, boolean transposedA, double[][] matrixB,
+                                      double[][] result, double alpha, double beta, int i, int j) {
+        int common = matrixB.length;
+        double[] rowC0 = result[i];
+        double[] rowC1 = result[i + 1];
+        double[] rowC2 = result[i + 2];
+        double[] rowC3 = result[i + 3];
+        boolean overwrite = beta == 0.0;
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        DoubleVector c00 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC0, j).mul(beta);
+        DoubleVector c01 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC0, j + LANES).mul(beta);
+        DoubleVector c10 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC1, j).mul(beta);
+        DoubleVector c11 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC1, j + LANES).mul(beta);
+        DoubleVector c20 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC2, j).mul(beta);
+        DoubleVector c21 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC2, j + LANES).mul(beta);
+        DoubleVector c30 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC3, j).mul(beta);
+        DoubleVector c31 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC3, j + LANES).mul(beta);
+        for (int k = 0; k < common; k++) {
+            double[] rowB = matrixB[k];
+            DoubleVector b0 = DoubleVector.fromArray(SPECIES, rowB, j);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, rowB, j + LANES);
+            double a0 = alpha * (transposedA ? matrixA[k][i] : matrixA[i][k]);
+            double a1 = alpha * (transposedA ? matrixA[k][i + 1] : matrixA[i + 1][k]);
+            double a2 = alpha * (transposedA ? matrixA[k][i + 2] : matrixA[i + 2][k]);
+            double a3 = alpha * (transposedA ? matrixA[k][i + 3] : matrixA[i + 3][k]);
+            c00 = b0.fma(DoubleVector.broadcast(SPECIES, a0), c00);
+            c01 = b1.fma(DoubleVector.broadcast(SPECIES, a0), c01);
+            c10 = b0.fma(DoubleVector.broadcast(SPECIES, a1), c10);
+            c11 = b1.fma(DoubleVector.broadcast(SPECIES, a1), c11);
+            c20 = b0.fma(DoubleVector.broadcast(SPECIES, a2), c20);
+            c21 = b1.fma(DoubleVector.broadcast(SPECIES, a2), c21);
+            c30 = b0.fma(DoubleVector.broadcast(SPECIES, a3), c30);
+            c31 = b1.fma(DoubleVector.broadcast(SPECIES, a3), c31);
+        }
+        c00.intoArray(rowC0, j);
+        c01.intoArray(rowC0, j + LANES);
+        c10.intoArray(rowC1, j);
+        c11.intoArray(rowC1, j + LANES);
+        c20.intoArray(rowC2, j);
+        c21.intoArray(rowC2, j + LANES);
+        c30.intoArray(rowC3, j);
+        c31.intoArray(rowC3, j + LANES);
     }
 
-    private double[][] transpose(double[][] matrix) {
-        int rows = matrix.length;
-        int cols = matrix[0].length;
-        double[][] transposed = new double[cols][rows];
+    private static void multiplyMaskedBlock(double[][] matrixA, boolean transposedA, double[][] matrixB,
+                                            double[][] result, double alpha, double beta, int i, int j, int colEnd) {
+        int common = matrixB.length;
+        double[] rowC0 = result[i];
+        double[] rowC1 = result[i + 1];
+        double[] rowC2 = result[i + 2];
+        double[] rowC3 = result[i + 3];
+        VectorMask<Double> mask = SPECIES.indexInRange(j, colEnd);
+        boolean overwrite = beta == 0.0;
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        DoubleVector c0 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC0, j, mask).mul(beta);
+        DoubleVector c1 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC1, j, mask).mul(beta);
+        DoubleVector c2 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC2, j, mask).mul(beta);
+        DoubleVector c3 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC3, j, mask).mul(beta);
+        for (int k = 0; k < common; k++) {
+            DoubleVector b = DoubleVector.fromArray(SPECIES, matrixB[k], j, mask);
+            double a0 = alpha * (transposedA ? matrixA[k][i] : matrixA[i][k]);
+            double a1 = alpha * (transposedA ? matrixA[k][i + 1] : matrixA[i + 1][k]);
+            double a2 = alpha * (transposedA ? matrixA[k][i + 2] : matrixA[i + 2][k]);
+            double a3 = alpha * (transposedA ? matrixA[k][i + 3] : matrixA[i + 3][k]);
+            c0 = b.fma(DoubleVector.broadcast(SPECIES, a0), c0);
+            c1 = b.fma(DoubleVector.broadcast(SPECIES, a1), c1);
+            c2 = b.fma(DoubleVector.broadcast(SPECIES, a2), c2);
+            c3 = b.fma(DoubleVector.broadcast(SPECIES, a3), c3);
+        }
+        c0.intoArray(rowC0, j, mask);
+        c1.intoArray(rowC1, j, mask);
+        c2.intoArray(rowC2, j, mask);
+        c3.intoArray(rowC3, j, mask);
+    }
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                transposed[j][i] = matrix[i][j];
+    private static void multiplyRow(double[][] matrixA, boolean transposedA, double[][] matrixB,
+                                    double[][] result, double alpha, double beta, int i, int colStart, int colEnd) {
+        int common = matrixB.length;
+        double[] rowC = result[i];
+        boolean overwrite = beta == 0.0;
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int j = colStart;
+        for (; j + LANES <= colEnd; j += LANES) {
+            DoubleVector c0 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC, j).mul(beta);
+            for (int k = 0; k < common; k++) {
+                double a0 = alpha * (transposedA ? matrixA[k][i] : matrixA[i][k]);
+                c0 = DoubleVector.fromArray(SPECIES, matrixB[k], j).fma(DoubleVector.broadcast(SPECIES, a0), c0);
             }
+            c0.intoArray(rowC, j);
         }
+        if (j < colEnd) {
+            VectorMask<Double> mask = SPECIES.indexInRange(j, colEnd);
+            DoubleVector c0 = overwrite ? zero : DoubleVector.fromArray(SPECIES, rowC, j, mask).mul(beta);
+            for (int k = 0; k < common; k++) {
+                double a0 = alpha * (transposedA ? matrixA[k][i] : matrixA[i][k]);
+                DoubleVector b = DoubleVector.fromArray(SPECIES, matrixB[k], j, mask);
+                c0 = b.fma(DoubleVector.broadcast(SPECIES, a0), c0);
+            }
+            c0.intoArray(rowC, j, mask);
+        }
+    }
 
-        return transposed;
+    private static void multiplyDotProducts(double[][] matrixA, double[][] matrixB, double[][] result,
+                                            double alpha, double beta,
+                                            int rowStart, int rowEnd, int colStart, int colEnd) {
+        for (int i = rowStart; i < rowEnd; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            int j = colStart;
+            for (; j + 4 <= colEnd; j += 4) {
+                dotProducts(rowA, matrixB[j], matrixB[j + 1], matrixB[j + 2], matrixB[j + 3], rowC, j, alpha, beta);
+            }
+            for (; j < colEnd; j++) {
+                rowC[j] = MatrixAccumulation.update(alpha, dotProduct(rowA, matrixB[j]), beta, rowC[j]);
+            }
+        }
     }
 
-    private double vectorizedDotProduct(double[] row, double[] col) {
-        int length = row.length;
-        double sum = 0.0;
-        int i = 0;
+    private static void dotProducts(double[] rowA, double[] rowB0, double[] rowB1, double[] rowB2, double[] rowB3,
+                                    double[] rowC, int col, double alpha, double beta) {
+        int length = rowA.length;
+        int bound = SPECIES.loopBound(length);
+        DoubleVector s0 = DoubleVector.zero(SPECIES);
+        DoubleVector s1 = DoubleVector.zero(SPECIES);
+        DoubleVector s2 = DoubleVector.zero(SPECIES);
+        DoubleVector s3 = DoubleVector.zero(SPECIES);
+        for (int k = 0; k < bound; k += LANES) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, rowA, k);
+            s0 = a.fma(DoubleVector.fromArray(SPECIES, rowB0, k), s0);
+            s1 = a.fma(DoubleVector.fromArray(SPECIES, rowB1, k), s1);
+            s2 = a.fma(DoubleVector.fromArray(SPECIES, rowB2, k), s2);
+            s3 = a.fma(DoubleVector.fromArray(SPECIES, rowB3, k), s3);
+        }
+        double sum0 = s0.reduceLanes(VectorOperators.ADD);
+        double sum1 = s1.reduceLanes(VectorOperators.ADD);
+        double sum2 = s2.reduceLanes(VectorOperators.ADD);
+        double sum3 = s3.reduceLanes(VectorOperators.ADD);
+        for (int k = bound; k < length; k++) {
+            sum0 += rowA[k] * rowB0[k];
+            sum1 += rowA[k] * rowB1[k];
+            sum2 += rowA[k] * rowB2[k];
+            sum3 += rowA[k] * rowB3[k];
+        }
+        rowC[col] = MatrixAccumulation.update(alpha, sum0, beta, rowC[col]);
+        rowC[col + 1] = MatrixAccumulation.update(alpha, sum1, beta, rowC[col + 1]);
+        rowC[col + 2] = MatrixAccumulation.update(alpha, sum2, beta, rowC[col + 2]);
+        rowC[col + 3] = MatrixAccumulation.update(alpha, sum3, beta, rowC[col + 3]);
+    }
 
-        while (i < SPECIES.loopBound(length)) {
-            DoubleVector vectorA = DoubleVector.fromArray(SPECIES, row, i);
-            DoubleVector vectorB = DoubleVector.fromArray(SPECIES, col, i);
-            sum += vectorA.mul(vectorB).reduceLanes(VectorOperators.ADD);
-            i += SPECIES.length();
+    private static double dotProduct(double[] rowA, double[] rowB) {
+        int length = rowA.length;
+        int bound = SPECIES.loopBound(length);
+        DoubleVector s = DoubleVector.zero(SPECIES);
+        for (int k = 0; k < bound; k += LANES) {
+            s = DoubleVector.fromArray(SPECIES, rowA, k).fma(DoubleVector.fromArray(SPECIES, rowB, k), s);
+        }
+        double sum = s.reduceLanes(VectorOperators.ADD);
+        for (int k = bound; k < length; k++) {
+            sum += rowA[k] * rowB[k];
         }
+        return sum;
+    }
 
-        for (; i < length; i++) {
-            sum += row[i] * col[i];
+    private static void multiplyColumnPanels(double[][] matrixA, double[][] matrixB, double[][] result,
+                                             double alpha, double beta,
+                                             int rowStart, int rowEnd, int colStart, int colEnd) {
+        int common = matrixA.length;
+        double[] lanes = LANE_BUFFER.get();
+        int j = colStart;
+        for (; j + 4 <= colEnd; j += 4) {
+            double[] rowB0 = matrixB[j];
+            double[] rowB1 = matrixB[j + 1];
+            double[] rowB2 = matrixB[j + 2];
+            double[] rowB3 = matrixB[j + 3];
+            for (int i = rowStart; i < rowEnd; i += LANES) {
+                VectorMask<Double> mask = SPECIES.indexInRange(i, rowEnd);
+                DoubleVector c0 = DoubleVector.zero(SPECIES);
+                DoubleVector c1 = DoubleVector.zero(SPECIES);
+                DoubleVector c2 = DoubleVector.zero(SPECIES);
+                DoubleVector c3 = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    DoubleVector a = DoubleVector.fromArray(SPECIES, matrixA[k], i, mask);
+                    c0 = a.fma(DoubleVector.broadcast(SPECIES, rowB0[k]), c0);
+                    c1 = a.fma(DoubleVector.broadcast(SPECIES, rowB1[k]), c1);
+                    c2 = a.fma(DoubleVector.broadcast(SPECIES, rowB2[k]), c2);
+                    c3 = a.fma(DoubleVector.broadcast(SPECIES, rowB3[k]), c3);
+                }
+                int count = Math.min(LANES, rowEnd - i);
+                storeColumn(result, i, count, j, c0, alpha, beta, lanes);
+                storeColumn(result, i, count, j + 1, c1, alpha, beta, lanes);
+                storeColumn(result, i, count, j + 2, c2, alpha, beta, lanes);
+                storeColumn(result, i, count, j + 3, c3, alpha, beta, lanes);
+            }
         }
+        for (; j < colEnd; j++) {
+            double[] rowB = matrixB[j];
+            for (int i = rowStart; i < rowEnd; i += LANES) {
+                VectorMask<Double> mask = SPECIES.indexInRange(i, rowEnd);
+                DoubleVector c0 = DoubleVector.zero(SPECIES);
+                for (int k = 0; k < common; k++) {
+                    DoubleVector a = DoubleVector.fromArray(SPECIES, matrixA[k], i, mask);
+                    c0 = a.fma(DoubleVector.broadcast(SPECIES, rowB[k]), c0);
+                }
+                storeColumn(result, i, Math.min(LANES, rowEnd - i), j, c0, alpha, beta, lanes);
+            }
+        }
+    }
 
-        return sum;
+    private static void storeColumn(double[][] result, int row, int count, int col, DoubleVector acc,
+                                    double alpha, double beta, double[] lanes) {
+        acc.intoArray(lanes, 0);
+        for (int l = 0; l < count; l++) {
+            result[row + l][col] = MatrixAccumulation.update(alpha, lanes[l], beta, result[row + l][col]);
+        }
     }
 }
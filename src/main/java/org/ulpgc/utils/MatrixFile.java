@@ -0,0 +1,227 @@
+package org.ulpgc.utils;
+
+import org.ulpgc.matrix.dense.DenseMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+public class MatrixFile {
+    public static final int HEADER_SIZE = 64;
+    public static final String EXTENSION = ".ulmx";
+
+    private static final int MAGIC = 0x584D4C55;
+    private static final short VERSION = 1;
+    private static final byte DTYPE_FLOAT64 = 1;
+    private static final byte LAYOUT_ROW_MAJOR = 0;
+    private static final long CHUNK_BYTES = 1L << 30;
+
+    public record Header(int rows, int cols, long checksum) {
+        public long payloadBytes() {
+            return (long) rows * cols * Double.BYTES;
+        }
+    }
+
+    public static void write(Path path, double[][] matrix) throws IOException {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        write(path, rows, cols, (row, target) -> target.put(matrix[row]));
+    }
+
+    public static void write(Path path, DenseMatrix matrix) throws IOException {
+        write(path, matrix.rows(), matrix.cols(),
+                (row, target) -> target.put(matrix.data(), matrix.index(row, 0), matrix.cols()));
+    }
+
+    public static Header readHeader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readHeader(channel, path);
+        }
+    }
+
+    public static Header verify(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+            read(channel, header, path, (row, source) -> {
+            });
+            return header;
+        }
+    }
+
+    public static void seal(Path path, int rows, int cols) throws IOException {
+        long payload = (long) rows * cols * Double.BYTES;
+        CRC32C checksum = new CRC32C();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE + payload) {
+                throw new IOException("File " + path + " is too small for a " + rows + "x" + cols + " matrix");
+            }
+            int rowsPerChunk = rowsPerChunk(cols);
+            for (int rowStart = 0; rowStart < rows; rowStart += rowsPerChunk) {
+                int chunkRows = Math.min(rowsPerChunk, rows - rowStart);
+                long position = HEADER_SIZE + (long) rowStart * cols * Double.BYTES;
+                checksum.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        (long) chunkRows * cols * Double.BYTES));
+            }
+            writeHeader(channel, rows, cols, payload, checksum.getValue());
+        }
+    }
+
+    public static double[][] readArray(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+            double[][] matrix = new double[header.rows()][header.cols()];
+            read(channel, header, path, (row, source) -> source.get(matrix[row]));
+            return matrix;
+        }
+    }
+
+    public static DenseMatrix readDense(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+            DenseMatrix matrix = new DenseMatrix(header.rows(), header.cols());
+            read(channel, header, path,
+                    (row, source) -> source.get(matrix.data(), row * header.cols(), header.cols()));
+            return matrix;
+        }
+    }
+
+    public static double[][] loadOrGenerate(Path directory, String name, int rows, int cols, long seed)
+            throws IOException {
+        Path path = directory.resolve(name + "_" + rows + "x" + cols + "_" + seed + EXTENSION);
+        if (Files.exists(path)) {
+            try {
+                double[][] matrix = readArray(path);
+                if (matrix.length == rows && (rows == 0 || matrix[0].length == cols)) {
+                    return matrix;
+                }
+                System.err.println("Could not reuse " + path + ": unexpected shape, regenerating");
+            } catch (IOException e) {
+                System.err.println("Could not reuse " + path + ": " + e.getMessage() + ", regenerating");
+            }
+        }
+        double[][] matrix = MatrixGenerator.generateMatrix(rows, cols, seed);
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, name, EXTENSION + ".tmp");
+        try {
+            write(temp, matrix);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return matrix;
+    }
+
+    private interface RowWriter {
+        void write(int row, DoubleBuffer target);
+    }
+
+    private interface RowReader {
+        void read(int row, DoubleBuffer source);
+    }
+
+    private static void write(Path path, int rows, int cols, RowWriter writer) throws IOException {
+        long payload = (long) rows * cols * Double.BYTES;
+        CRC32C checksum = new CRC32C();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int rowsPerChunk = rowsPerChunk(cols);
+            for (int rowStart = 0; rowStart < rows; rowStart += rowsPerChunk) {
+                int chunkRows = Math.min(rowsPerChunk, rows - rowStart);
+                long position = HEADER_SIZE + (long) rowStart * cols * Double.BYTES;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                        (long) chunkRows * cols * Double.BYTES);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                DoubleBuffer target = buffer.asDoubleBuffer();
+                for (int i = 0; i < chunkRows; i++) {
+                    writer.write(rowStart + i, target);
+                }
+                checksum.update(buffer.rewind());
+            }
+            writeHeader(channel, rows, cols, payload, checksum.getValue());
+        }
+    }
+
+    private static void writeHeader(FileChannel channel, int rows, int cols, long payload, long checksum)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putShort(VERSION)
+                .put(DTYPE_FLOAT64)
+                .put(LAYOUT_ROW_MAJOR)
+                .putInt(rows)
+                .putInt(cols)
+                .putLong(payload)
+                .putLong(checksum);
+        header.rewind();
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    private static Header readHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(header, 0) != HEADER_SIZE) {
+            throw new IOException("Truncated matrix header in " + path);
+        }
+        header.flip();
+
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a matrix file: " + path);
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported matrix file version " + version + " in " + path);
+        }
+        if (header.get() != DTYPE_FLOAT64 || header.get() != LAYOUT_ROW_MAJOR) {
+            throw new IOException("Unsupported dtype or layout in " + path);
+        }
+        int rows = header.getInt();
+        int cols = header.getInt();
+        long payload = header.getLong();
+        long checksum = header.getLong();
+
+        Header result = new Header(rows, cols, checksum);
+        if (payload != result.payloadBytes() || channel.size() < HEADER_SIZE + payload) {
+            throw new IOException("Matrix payload size mismatch in " + path);
+        }
+        return result;
+    }
+
+    private static void read(FileChannel channel, Header header, Path path, RowReader reader) throws IOException {
+        int rows = header.rows();
+        int cols = header.cols();
+        CRC32C checksum = new CRC32C();
+
+        int rowsPerChunk = rowsPerChunk(cols);
+        for (int rowStart = 0; rowStart < rows; rowStart += rowsPerChunk) {
+            int chunkRows = Math.min(rowsPerChunk, rows - rowStart);
+            long position = HEADER_SIZE + (long) rowStart * cols * Double.BYTES;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    (long) chunkRows * cols * Double.BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            checksum.update(buffer.duplicate());
+            DoubleBuffer source = buffer.asDoubleBuffer();
+            for (int i = 0; i < chunkRows; i++) {
+                reader.read(rowStart + i, source);
+            }
+        }
+
+        if (checksum.getValue() != header.checksum()) {
+            throw new IOException("Checksum mismatch in " + path);
+        }
+    }
+
+    private static int rowsPerChunk(int cols) {
+        long rowBytes = Math.max(1L, (long) cols * Double.BYTES);
+        return (int) Math.max(1, CHUNK_BYTES / rowBytes);
+    }
+}
@@ -1,12 +1,23 @@
 package org.ulpgc.utils;
 
+import org.ulpgc.matrix.dense.DenseMatrix;
+import org.ulpgc.matrix.offheap.OffHeapMatrix;
+import org.ulpgc.matrix.outofcore.MappedMatrix;
+
 import java.util.Random;
 
 public class MatrixGenerator {
 
     public static double[][] generateMatrix(int rows, int cols) {
+        return generateMatrix(rows, cols, new Random());
+    }
+
+    public static double[][] generateMatrix(int rows, int cols, long seed) {
+        return generateMatrix(rows, cols, new Random(seed));
+    }
+
+    private static double[][] generateMatrix(int rows, int cols, Random random) {
         double[][] matrix = new double[rows][cols];
-        Random random = new Random();
 
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
@@ -15,5 +26,59 @@ public class MatrixGenerator {
         }
         return matrix;
     }
-}
 
+    public static double[][] generateSparseMatrix(int rows, int cols, double density) {
+        return generateSparseMatrix(rows, cols, density, new Random());
+    }
+
+    public static double[][] generateSparseMatrix(int rows, int cols, double density, long seed) {
+        return generateSparseMatrix(rows, cols, density, new Random(seed));
+    }
+
+    private static double[][] generateSparseMatrix(int rows, int cols, double density, Random random) {
+        double[][] matrix = new double[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (random.nextDouble() < density) {
+                    matrix[i][j] = random.nextDouble() * 10;
+                }
+            }
+        }
+        return matrix;
+    }
+
+    public static DenseMatrix generateDenseMatrix(int rows, int cols) {
+        DenseMatrix matrix = new DenseMatrix(rows, cols);
+        double[] data = matrix.data();
+        Random random = new Random();
+
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble() * 10;
+        }
+        return matrix;
+    }
+
+    public static void fillMatrix(MappedMatrix matrix) {
+        int cols = matrix.cols();
+        double[] row = new double[cols];
+        Random random = new Random();
+
+        for (int i = 0; i < matrix.rows(); i++) {
+            for (int j = 0; j < cols; j++) {
+                row[j] = random.nextDouble() * 10;
+            }
+            matrix.writeTile(i, 0, 1, cols, row);
+        }
+    }
+
+    public static void fillMatrix(OffHeapMatrix matrix, long seed) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < matrix.rows(); i++) {
+            for (int j = 0; j < matrix.cols(); j++) {
+                matrix.set(i, j, random.nextDouble() * 10);
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.ulpgc.matrix;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.ulpgc.matrix.adaptive.AdaptiveMatrixMultiplication;
+import org.ulpgc.matrix.adaptive.DispatchProfile;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.matrix.batched.BatchedMatrixMultiplication;
+import org.ulpgc.matrix.blocked.BlockedMatrixMultiplication;
+import org.ulpgc.matrix.cache.CachingMatrixMultiplication;
+import org.ulpgc.matrix.dense.BasicDenseMatrixMultiplication;
+import org.ulpgc.matrix.dense.DenseMatrixAdapter;
+import org.ulpgc.matrix.gemv.MatrixVectorRoutingMultiplication;
+import org.ulpgc.matrix.offheap.OffHeapMatrixMultiplication;
+import org.ulpgc.matrix.parallel.TaskGranularity;
+import org.ulpgc.matrix.parallel.ThreadMode;
+import org.ulpgc.matrix.parallel.executors.ParallelMatrixExecutors;
+import org.ulpgc.matrix.parallel.forkjoin.ForkJoinMatrixMultiplication;
+import org.ulpgc.matrix.parallel.splitk.ReductionStrategy;
+import org.ulpgc.matrix.parallel.splitk.SplitKMatrixMultiplication;
+import org.ulpgc.matrix.parallel.streams.ParallelMatrixStreams;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixAtomic;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixSemaphore;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixSynchronized;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixTasks;
+import org.ulpgc.matrix.parallel.synchronization.ParallelMatrixThreads;
+import org.ulpgc.matrix.precision.BasicFloatMatrixMultiplication;
+import org.ulpgc.matrix.precision.FloatMatrixAdapter;
+import org.ulpgc.matrix.precision.HalfPrecisionMatrixMultiplication;
+import org.ulpgc.matrix.precision.ParallelFloatMatrixMultiplication;
+import org.ulpgc.matrix.precision.VectorizedFloatMatrixMultiplication;
+import org.ulpgc.matrix.sparse.DensityRoutingMatrixMultiplication;
+import org.ulpgc.matrix.sparse.SparseMatrixMultiplication;
+import org.ulpgc.matrix.strassen.StrassenMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.PackedVectorizedMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.ParallelVectorizedMatrixMultiplication;
+import org.ulpgc.matrix.vectorized.VectorizedMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MatrixMultiplicationTest {
+    private static final double DOUBLE_TOLERANCE = 1e-12;
+    private static final double FLOAT_TOLERANCE = 1e-5;
+    private static final double HALF_TOLERANCE = 5e-3;
+    private static final int[][] SHAPES = {{1, 1, 1}, {7, 1, 1}, {17, 13, 19}, {257, 129, 300}};
+    private static final double ALPHA = 1.5;
+    private static final double BETA = -0.5;
+
+    private static final List<MatrixMultiplication> ENGINES = new ArrayList<>();
+
+    private record Engine(String name, MatrixMultiplication multiplication, double tolerance) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static Stream<Arguments> cases() {
+        List<Engine> engines = List.of(
+                engine("blocked", new BlockedMatrixMultiplication(), DOUBLE_TOLERANCE),
+                engine("vectorized", new VectorizedMatrixMultiplication(), DOUBLE_TOLERANCE),
+                engine("packed", new PackedVectorizedMatrixMultiplication(), DOUBLE_TOLERANCE),
+                engine("parallelVectorized", new ParallelVectorizedMatrixMultiplication(2), DOUBLE_TOLERANCE),
+                engine("batched", new BatchedMatrixMultiplication(2), DOUBLE_TOLERANCE),
+                engine("executors", new ParallelMatrixExecutors(2), DOUBLE_TOLERANCE),
+                engine("forkJoin", new ForkJoinMatrixMultiplication(2), DOUBLE_TOLERANCE),
+                engine("streams", new ParallelMatrixStreams(), DOUBLE_TOLERANCE),
+                engine("atomic", new ParallelMatrixAtomic(), DOUBLE_TOLERANCE),
+                engine("semaphore", new ParallelMatrixSemaphore(), DOUBLE_TOLERANCE),
+                engine("synchronized", new ParallelMatrixSynchronized(), DOUBLE_TOLERANCE),
+                engine("tasksRow", new ParallelMatrixTasks(ThreadMode.PLATFORM, TaskGranularity.ROW), DOUBLE_TOLERANCE),
+                engine("tasksTile", new ParallelMatrixTasks(ThreadMode.VIRTUAL, TaskGranularity.TILE), DOUBLE_TOLERANCE),
+                engine("threads", new ParallelMatrixThreads(2), DOUBLE_TOLERANCE),
+                engine("splitKStripedLocks", new SplitKMatrixMultiplication(2, ReductionStrategy.STRIPED_LOCKS),
+                        DOUBLE_TOLERANCE),
+                engine("splitKDoubleAdder", new SplitKMatrixMultiplication(2, ReductionStrategy.DOUBLE_ADDER),
+                        DOUBLE_TOLERANCE),
+                engine("splitKCas", new SplitKMatrixMultiplication(2, ReductionStrategy.CAS), DOUBLE_TOLERANCE),
+                engine("splitKTree", new SplitKMatrixMultiplication(2, ReductionStrategy.TREE), DOUBLE_TOLERANCE),
+                engine("strassen", new StrassenMatrixMultiplication(new BlockedMatrixMultiplication(), 8, 0),
+                        DOUBLE_TOLERANCE),
+                engine("strassenParallel", new StrassenMatrixMultiplication(new BlockedMatrixMultiplication(), 8, 2),
+                        DOUBLE_TOLERANCE),
+                engine("offHeap", new OffHeapMatrixMultiplication(), DOUBLE_TOLERANCE),
+                engine("offHeapParallel", new OffHeapMatrixMultiplication(true), DOUBLE_TOLERANCE),
+                engine("sparse", new SparseMatrixMultiplication(2), DOUBLE_TOLERANCE),
+                engine("densityRouting", new DensityRoutingMatrixMultiplication(2), DOUBLE_TOLERANCE),
+                engine("dense", new DenseMatrixAdapter(new BasicDenseMatrixMultiplication()), DOUBLE_TOLERANCE),
+                engine("caching", new CachingMatrixMultiplication(new BasicMatrixMultiplication()), DOUBLE_TOLERANCE),
+                engine("matrixVectorRouting", new MatrixVectorRoutingMultiplication(new BlockedMatrixMultiplication()),
+                        DOUBLE_TOLERANCE),
+                engine("adaptive", adaptive(), DOUBLE_TOLERANCE),
+                engine("basicFloat", new FloatMatrixAdapter(new BasicFloatMatrixMultiplication()), FLOAT_TOLERANCE),
+                engine("parallelFloat", new FloatMatrixAdapter(new ParallelFloatMatrixMultiplication()),
+                        FLOAT_TOLERANCE),
+                engine("vectorizedFloat", new FloatMatrixAdapter(new VectorizedFloatMatrixMultiplication(true)),
+                        FLOAT_TOLERANCE),
+                engine("halfPrecision", new FloatMatrixAdapter(new HalfPrecisionMatrixMultiplication()),
+                        HALF_TOLERANCE));
+
+        List<Arguments> cases = new ArrayList<>();
+        for (Engine engine : engines) {
+            for (int[] shape : SHAPES) {
+                cases.add(Arguments.of(engine, shape[0], shape[1], shape[2]));
+            }
+        }
+        return cases.stream();
+    }
+
+    @AfterAll
+    static void closeEngines() throws Exception {
+        for (MatrixMultiplication engine : ENGINES) {
+            if (engine instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        ENGINES.clear();
+    }
+
+    @ParameterizedTest(name = "{0} {1}x{2}x{3}")
+    @MethodSource("cases")
+    void multiplyMatchesBasic(Engine engine, int rows, int cols, int common) {
+        double[][] matrixA = MatrixGenerator.generateMatrix(rows, common, 1L);
+        double[][] matrixB = MatrixGenerator.generateMatrix(common, cols, 2L);
+        double[][] expected = new BasicMatrixMultiplication().multiply(matrixA, matrixB);
+
+        assertClose(expected, engine.multiplication().multiply(matrixA, matrixB), engine.tolerance());
+    }
+
+    @ParameterizedTest(name = "{0} {1}x{2}x{3}")
+    @MethodSource("cases")
+    void multiplyIntoAppliesAlphaAndBeta(Engine engine, int rows, int cols, int common) {
+        double[][] matrixA = MatrixGenerator.generateMatrix(rows, common, 3L);
+        double[][] matrixB = MatrixGenerator.generateMatrix(common, cols, 4L);
+        double[][] initial = MatrixGenerator.generateMatrix(rows, cols, 5L);
+        double[][] expected = copy(initial);
+        new BasicMatrixMultiplication().multiplyInto(matrixA, matrixB, expected, ALPHA, BETA);
+
+        double[][] result = copy(initial);
+        engine.multiplication().multiplyInto(matrixA, matrixB, result, ALPHA, BETA);
+        assertClose(expected, result, engine.tolerance());
+    }
+
+    @ParameterizedTest(name = "{0} {1}x{2}x{3}")
+    @MethodSource("cases")
+    void multiplyIntoWithZeroBetaIgnoresNaN(Engine engine, int rows, int cols, int common) {
+        double[][] matrixA = MatrixGenerator.generateMatrix(rows, common, 6L);
+        double[][] matrixB = MatrixGenerator.generateMatrix(common, cols, 7L);
+        double[][] expected = new double[rows][cols];
+        new BasicMatrixMultiplication().multiplyInto(matrixA, matrixB, expected, ALPHA, 0.0);
+
+        double[][] result = new double[rows][cols];
+        for (double[] row : result) {
+            Arrays.fill(row, Double.NaN);
+        }
+        engine.multiplication().multiplyInto(matrixA, matrixB, result, ALPHA, 0.0);
+        assertClose(expected, result, engine.tolerance());
+    }
+
+    static void assertClose(double[][] expected, double[][] actual, double tolerance) {
+        assertEquals(expected.length, actual.length, "rows");
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].length, actual[i].length, "cols of row " + i);
+            for (int j = 0; j < expected[i].length; j++) {
+                double scale = Math.max(1.0, Math.abs(expected[i][j]));
+                if (!(Math.abs(expected[i][j] - actual[i][j]) <= tolerance * scale)) {
+                    fail("Element (" + i + ", " + j + "): expected " + expected[i][j] + " but was " + actual[i][j]);
+                }
+            }
+        }
+    }
+
+    private static Engine engine(String name, MatrixMultiplication multiplication, double tolerance) {
+        ENGINES.add(multiplication);
+        return new Engine(name, multiplication, tolerance);
+    }
+
+    private static MatrixMultiplication adaptive() {
+        Map<String, MatrixMultiplication> engines = new LinkedHashMap<>();
+        engines.put("basic", new BasicMatrixMultiplication());
+        engines.put("vectorized", new VectorizedMatrixMultiplication());
+        return new AdaptiveMatrixMultiplication(engines, new DispatchProfile(), null);
+    }
+
+    private static double[][] copy(double[][] matrix) {
+        double[][] copy = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,79 @@
+package org.ulpgc.matrix.quantized;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.ulpgc.matrix.IntegerMatrixMultiplication;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QuantizedMatrixMultiplicationTest {
+    private static final int[][] SHAPES = {{1, 1, 1}, {7, 1, 1}, {17, 13, 19}, {257, 129, 300}};
+
+    static Stream<Arguments> cases() {
+        List<IntegerMatrixMultiplication> kernels = List.of(
+                new BasicIntegerMatrixMultiplication(),
+                new ParallelIntegerMatrixMultiplication(),
+                new VectorizedIntegerMatrixMultiplication(false),
+                new VectorizedIntegerMatrixMultiplication(true));
+        List<Arguments> cases = new ArrayList<>();
+        for (IntegerMatrixMultiplication kernel : kernels) {
+            for (int[] shape : SHAPES) {
+                cases.add(Arguments.of(kernel, shape[0], shape[1], shape[2]));
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest(name = "{0} {1}x{2}x{3}")
+    @MethodSource("cases")
+    void integerKernelMatchesExactProduct(IntegerMatrixMultiplication kernel, int rows, int cols, int common) {
+        byte[][] matrixA = randomBytes(rows, common, 1L);
+        byte[][] matrixB = randomBytes(common, cols, 2L);
+
+        int[][] product = kernel.multiply(matrixA, matrixB);
+        assertEquals(rows, product.length);
+        for (int i = 0; i < rows; i++) {
+            int[] expected = new int[cols];
+            for (int j = 0; j < cols; j++) {
+                for (int k = 0; k < common; k++) {
+                    expected[j] += matrixA[i][k] * matrixB[k][j];
+                }
+            }
+            assertArrayEquals(expected, product[i], "row " + i);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1}x{2}x{3}")
+    @MethodSource("cases")
+    void adapterMatchesDenseProductOfDequantizedInputs(IntegerMatrixMultiplication kernel, int rows, int cols,
+                                                      int common) {
+        QuantizedMatrix matrixA = QuantizedMatrix.quantize(MatrixGenerator.generateMatrix(rows, common, 3L));
+        QuantizedMatrix matrixB = QuantizedMatrix.quantize(MatrixGenerator.generateMatrix(common, cols, 4L));
+        double[][] expected = new BasicMatrixMultiplication().multiply(matrixA.dequantize(), matrixB.dequantize());
+
+        double[][] result = new QuantizedMatrixAdapter(kernel).multiply(matrixA, matrixB);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                assertEquals(expected[i][j], result[i][j], 1e-9 * Math.max(1.0, Math.abs(expected[i][j])));
+            }
+        }
+    }
+
+    private static byte[][] randomBytes(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        byte[][] matrix = new byte[rows][cols];
+        for (byte[] row : matrix) {
+            random.nextBytes(row);
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,81 @@
+package org.ulpgc.matrix.sparse;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SparseMatrixMultiplicationTest {
+    private static final int[][] SHAPES = {{1, 1, 1}, {7, 1, 1}, {17, 13, 19}, {257, 129, 300}};
+    private static final double[] DENSITIES = {0.0, 0.01, 0.2, 1.0};
+    private static final double TOLERANCE = 1e-12;
+
+    private static final SparseMatrixMultiplication SPARSE = new SparseMatrixMultiplication(2);
+    private static final DensityRoutingMatrixMultiplication ROUTING = new DensityRoutingMatrixMultiplication(2);
+
+    static Stream<Arguments> cases() {
+        List<Arguments> cases = new ArrayList<>();
+        for (int[] shape : SHAPES) {
+            for (double density : DENSITIES) {
+                cases.add(Arguments.of(shape[0], shape[1], shape[2], density));
+            }
+        }
+        return cases.stream();
+    }
+
+    @AfterAll
+    static void closeRouting() {
+        ROUTING.close();
+    }
+
+    @ParameterizedTest(name = "{0}x{1}x{2} density {3}")
+    @MethodSource("cases")
+    void sparseKernelsMatchDenseProduct(int rows, int cols, int common, double density) {
+        double[][] matrixA = MatrixGenerator.generateSparseMatrix(rows, common, density, 1L);
+        double[][] matrixB = MatrixGenerator.generateSparseMatrix(common, cols, density, 2L);
+        double[][] expected = new BasicMatrixMultiplication().multiply(matrixA, matrixB);
+
+        assertClose(expected, SPARSE.multiply(CsrMatrix.fromArray(matrixA), matrixB));
+        assertClose(expected, SPARSE.multiply(matrixA, CscMatrix.fromArray(matrixB)));
+        assertClose(expected, SPARSE.multiply(CsrMatrix.fromArray(matrixA), CsrMatrix.fromArray(matrixB)).toArray());
+        assertClose(expected, ROUTING.multiply(matrixA, matrixB));
+    }
+
+    @ParameterizedTest(name = "{0}x{1}x{2} density {3}")
+    @MethodSource("cases")
+    void compressedFormatsRoundTrip(int rows, int cols, int common, double density) {
+        double[][] matrix = MatrixGenerator.generateSparseMatrix(rows, common, density, 3L);
+        CsrMatrix csr = CsrMatrix.fromArray(matrix);
+        CscMatrix csc = CscMatrix.fromArray(matrix);
+
+        assertEquals(csr.nnz(), csc.nnz());
+        double[][] fromCsr = csr.toArray();
+        double[][] fromCsc = csc.toArray();
+        double[][] transposed = csr.transpose().transpose().toArray();
+        for (int i = 0; i < rows; i++) {
+            assertArrayEquals(matrix[i], fromCsr[i]);
+            assertArrayEquals(matrix[i], fromCsc[i]);
+            assertArrayEquals(matrix[i], transposed[i]);
+        }
+    }
+
+    private static void assertClose(double[][] expected, double[][] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].length, actual[i].length);
+            for (int j = 0; j < expected[i].length; j++) {
+                assertEquals(expected[i][j], actual[i][j], TOLERANCE * Math.max(1.0, Math.abs(expected[i][j])),
+                        "element (" + i + ", " + j + ")");
+            }
+        }
+    }
+}
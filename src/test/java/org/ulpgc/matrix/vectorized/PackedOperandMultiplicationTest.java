@@ -0,0 +1,68 @@
+package org.ulpgc.matrix.vectorized;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.ulpgc.matrix.basic.BasicMatrixMultiplication;
+import org.ulpgc.utils.MatrixGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PackedOperandMultiplicationTest {
+    private static final int[][] SHAPES = {{1, 1, 1}, {7, 1, 1}, {17, 13, 19}, {257, 129, 300}};
+    private static final double TOLERANCE = 1e-12;
+
+    private static final ParallelVectorizedMatrixMultiplication PARALLEL = new ParallelVectorizedMatrixMultiplication(2);
+
+    static Stream<Arguments> cases() {
+        List<PackedOperandMultiplication> engines = List.of(new PackedVectorizedMatrixMultiplication(), PARALLEL);
+        List<Arguments> cases = new ArrayList<>();
+        for (PackedOperandMultiplication engine : engines) {
+            for (boolean offHeap : new boolean[]{false, true}) {
+                for (int[] shape : SHAPES) {
+                    cases.add(Arguments.of(engine, offHeap, shape[0], shape[1], shape[2]));
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    @AfterAll
+    static void closeEngines() {
+        PARALLEL.close();
+    }
+
+    @ParameterizedTest(name = "{0} offHeap={1} {2}x{3}x{4}", autoCloseArguments = false)
+    @MethodSource("cases")
+    void packedHandleMatchesBasic(PackedOperandMultiplication engine, boolean offHeap, int rows, int cols, int common) {
+        double[][] matrixA = MatrixGenerator.generateMatrix(rows, common, 1L);
+        double[][] matrixB = MatrixGenerator.generateMatrix(common, cols, 2L);
+        double[][] initial = MatrixGenerator.generateMatrix(rows, cols, 3L);
+        double[][] expected = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            expected[i] = initial[i].clone();
+        }
+        new BasicMatrixMultiplication().multiplyInto(matrixA, matrixB, expected, 2.0, 0.25);
+
+        try (PackedMatrix packed = PackedMatrix.pack(matrixB, offHeap)) {
+            double[][] unpacked = packed.toArray();
+            for (int k = 0; k < common; k++) {
+                assertArrayEquals(matrixB[k], unpacked[k]);
+            }
+
+            double[][] result = initial;
+            engine.multiplyInto(matrixA, packed, result, 2.0, 0.25);
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    assertEquals(expected[i][j], result[i][j], TOLERANCE * Math.max(1.0, Math.abs(expected[i][j])));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.ulpgc.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ulpgc.matrix.dense.DenseMatrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatrixFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void arrayRoundTripKeepsShapeAndValues() throws IOException {
+        double[][] matrix = MatrixGenerator.generateMatrix(17, 13, 1L);
+        Path path = directory.resolve("matrix" + MatrixFile.EXTENSION);
+        MatrixFile.write(path, matrix);
+
+        MatrixFile.Header header = MatrixFile.verify(path);
+        assertEquals(17, header.rows());
+        assertEquals(13, header.cols());
+        double[][] read = MatrixFile.readArray(path);
+        for (int i = 0; i < matrix.length; i++) {
+            assertArrayEquals(matrix[i], read[i]);
+        }
+    }
+
+    @Test
+    void denseRoundTripKeepsValues() throws IOException {
+        DenseMatrix matrix = DenseMatrix.fromArray(MatrixGenerator.generateMatrix(7, 1, 2L));
+        Path path = directory.resolve("dense" + MatrixFile.EXTENSION);
+        MatrixFile.write(path, matrix);
+
+        DenseMatrix read = MatrixFile.readDense(path);
+        assertEquals(7, read.rows());
+        assertEquals(1, read.cols());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(matrix.get(i, 0), read.get(i, 0));
+        }
+    }
+
+    @Test
+    void corruptedPayloadFailsChecksum() throws IOException {
+        Path path = directory.resolve("corrupt" + MatrixFile.EXTENSION);
+        MatrixFile.write(path, MatrixGenerator.generateMatrix(5, 5, 3L));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), MatrixFile.HEADER_SIZE + 3L * Double.BYTES);
+        }
+
+        IOException readFailure = assertThrows(IOException.class, () -> MatrixFile.readArray(path));
+        assertTrue(readFailure.getMessage().startsWith("Checksum mismatch"));
+        assertThrows(IOException.class, () -> MatrixFile.verify(path));
+    }
+
+    @Test
+    void foreignFileIsRejected() throws IOException {
+        Path path = directory.resolve("foreign" + MatrixFile.EXTENSION);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(MatrixFile.HEADER_SIZE + Double.BYTES));
+        }
+
+        IOException failure = assertThrows(IOException.class, () -> MatrixFile.readHeader(path));
+        assertTrue(failure.getMessage().startsWith("Not a matrix file"));
+    }
+
+    @Test
+    void loadOrGenerateRegeneratesCorruptedFiles() throws IOException {
+        double[][] first = MatrixFile.loadOrGenerate(directory, "input", 4, 3, 5L);
+        Path path = directory.resolve("input_4x3_5" + MatrixFile.EXTENSION);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), MatrixFile.HEADER_SIZE);
+        }
+
+        double[][] second = MatrixFile.loadOrGenerate(directory, "input", 4, 3, 5L);
+        for (int i = 0; i < first.length; i++) {
+            assertArrayEquals(first[i], second[i]);
+        }
+        MatrixFile.verify(path);
+    }
+}